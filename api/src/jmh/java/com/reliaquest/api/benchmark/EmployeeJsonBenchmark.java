@@ -0,0 +1,84 @@
+package com.reliaquest.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.reliaquest.api.client.EmployeeListReader;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeeListResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Jackson reads and writes of a single {@link Employee} and of the roster payload the upstream returns, the latter both
+ * bound in one go and streamed through {@link EmployeeListReader}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeJsonBenchmark {
+    @Param({"100", "10000"})
+    int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectReader employeeReader = objectMapper.readerFor(Employee.class);
+    private final ObjectWriter employeeWriter = objectMapper.writerFor(Employee.class);
+    private final ObjectReader listReader = objectMapper.readerFor(EmployeeListResponse.class);
+    private final ObjectWriter listWriter = objectMapper.writerFor(EmployeeListResponse.class);
+    private final EmployeeListReader streamingReader = new EmployeeListReader(objectMapper);
+    private Employee employee;
+    private byte[] employeeJson;
+    private EmployeeListResponse list;
+    private byte[] listJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        list = new EmployeeListResponse(Rosters.of(size));
+        listJson = listWriter.writeValueAsBytes(list);
+        employee = list.data().get(0);
+        employeeJson = employeeWriter.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public byte[] writeEmployee() throws JsonProcessingException {
+        return employeeWriter.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public Employee readEmployee() throws IOException {
+        return employeeReader.readValue(employeeJson);
+    }
+
+    @Benchmark
+    public byte[] writeEmployeeList() throws JsonProcessingException {
+        return listWriter.writeValueAsBytes(list);
+    }
+
+    @Benchmark
+    public EmployeeListResponse readEmployeeList() throws IOException {
+        return listReader.readValue(listJson);
+    }
+
+    @Benchmark
+    public void streamEmployeeList(Blackhole blackhole) throws IOException {
+        streamingReader.read(new ByteArrayInputStream(listJson), blackhole::consume);
+    }
+}
@@ -0,0 +1,62 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.cache.ParallelScan;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.services.EmployeeService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link EmployeeService#getEmployeesByNameSearch} against a cached roster. One- and two-character queries scan every
+ * name; longer ones go through the trigram index, with rare and common matches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameSearchBenchmark {
+    @Param({"10000", "50000", "200000"})
+    int size;
+
+    @Param({"a", "jo", "smith", "mary garcia"})
+    String query;
+
+    @Param({"sequential", "parallel"})
+    String mode;
+
+    private ParallelScan scan;
+    private EmployeeService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scan = mode.equals("parallel") ? new ParallelScan(0, 0) : ParallelScan.sequential();
+        service = Services.cached(Rosters.of(size), scan);
+        // loads the snapshot and builds the name index outside the measurement
+        service.getEmployeesByNameSearch(query);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scan.close();
+    }
+
+    @Benchmark
+    public List<Employee> getEmployeesByNameSearch() {
+        return service.getEmployeesByNameSearch(query);
+    }
+}
@@ -0,0 +1,45 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.models.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic rosters shaped like the mock server's: a few dozen first and last names, a handful of titles and
+ * salaries spread over a realistic range.
+ */
+final class Rosters {
+    private static final String[] FIRST_NAMES = {
+        "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "David", "Elizabeth", "William",
+        "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen"
+    };
+    private static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+        "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin"
+    };
+    private static final String[] TITLES = {
+        "Software Engineer", "Senior Software Engineer", "Engineering Manager", "Product Manager", "Designer",
+        "Data Analyst", "Director"
+    };
+
+    private Rosters() {}
+
+    static List<Employee> of(int size) {
+        Random random = new Random(size);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            employees.add(new Employee(
+                    new UUID(random.nextLong(), random.nextLong()),
+                    first + " " + last,
+                    Integer.toString(30_000 + random.nextInt(220_000)),
+                    18 + random.nextInt(58),
+                    TITLES[random.nextInt(TITLES.length)],
+                    first.toLowerCase() + "." + last.toLowerCase() + i + "@company.com"));
+        }
+        return employees;
+    }
+}
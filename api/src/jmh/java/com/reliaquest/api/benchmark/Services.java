@@ -0,0 +1,121 @@
+package com.reliaquest.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeIdCache;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.ParallelScan;
+import com.reliaquest.api.client.BatchPipeline;
+import com.reliaquest.api.client.EmployeeListReader;
+import com.reliaquest.api.client.UpstreamCallGuard;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeeListResponse;
+import com.reliaquest.api.services.EmployeeService;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Employee services wired without Spring, with the upstream replaced by a canned roster so benchmarks measure this
+ * service and not the network.
+ */
+final class Services {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private Services() {}
+
+    /**
+     * @return a service for the methods that work on their arguments alone
+     */
+    static EmployeeService uncached(ParallelScan scan) {
+        return service(new RestTemplate(), EmployeeSnapshotCache.disabled(), scan);
+    }
+
+    /**
+     * @return a service whose snapshot cache loads the given roster once and keeps it for the run
+     */
+    static EmployeeService cached(List<Employee> roster, ParallelScan scan) {
+        byte[] body;
+        try {
+            body = OBJECT_MAPPER.writeValueAsBytes(new EmployeeListResponse(roster));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        RestTemplate upstream = new RestTemplate() {
+            @Override
+            public <T> T execute(
+                    String url,
+                    HttpMethod method,
+                    RequestCallback requestCallback,
+                    ResponseExtractor<T> responseExtractor,
+                    Object... uriVariables) {
+                try {
+                    return responseExtractor.extractData(new CannedResponse(body));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        Duration day = Duration.ofDays(1);
+        return service(upstream, new EmployeeSnapshotCache(day, Duration.ZERO, day, false), scan);
+    }
+
+    private static EmployeeService service(
+            RestTemplate restTemplate, EmployeeSnapshotCache snapshotCache, ParallelScan scan) {
+        return new EmployeeService(
+                "http://localhost/api/v1/employee",
+                restTemplate,
+                new EmployeeListReader(OBJECT_MAPPER),
+                snapshotCache,
+                EmployeeIdCache.disabled(),
+                UpstreamCallGuard.unguarded(),
+                Runnable::run,
+                scan,
+                BatchPipeline.sequential());
+    }
+
+    private static final class CannedResponse implements ClientHttpResponse {
+        private final byte[] body;
+
+        CannedResponse(byte[] body) {
+            this.body = body;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return HttpStatus.OK;
+        }
+
+        @Override
+        public String getStatusText() {
+            return HttpStatus.OK.getReasonPhrase();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -0,0 +1,62 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.cache.ParallelScan;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.services.EmployeeService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link EmployeeService#getNHighestSalaries} across roster sizes and n, run both on the calling thread and split
+ * across a fork-join pool. Comparing the two modes by size shows where the parallel threshold should sit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TopSalariesBenchmark {
+    @Param({"1000", "10000", "50000", "100000", "1000000"})
+    int size;
+
+    @Param({"1", "10", "100"})
+    int n;
+
+    @Param({"sequential", "parallel"})
+    String mode;
+
+    private List<Employee> roster;
+    private ParallelScan scan;
+    private EmployeeService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        roster = Rosters.of(size);
+        scan = mode.equals("parallel") ? new ParallelScan(0, 0) : ParallelScan.sequential();
+        service = Services.uncached(scan);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scan.close();
+    }
+
+    @Benchmark
+    public List<Employee> getNHighestSalaries() {
+        return service.getNHighestSalaries(n, roster);
+    }
+}
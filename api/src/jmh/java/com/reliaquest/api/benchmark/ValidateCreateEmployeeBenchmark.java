@@ -0,0 +1,48 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.cache.ParallelScan;
+import com.reliaquest.api.exceptions.EmployeeValidationError;
+import com.reliaquest.api.models.CreateEmployee;
+import com.reliaquest.api.services.EmployeeService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link EmployeeService#validateCreateEmployee} for an input that passes and one that fails every rule, which pays
+ * for the message building and the exception.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidateCreateEmployeeBenchmark {
+    private final EmployeeService service = Services.uncached(ParallelScan.sequential());
+    private final CreateEmployee valid = new CreateEmployee("John Doe", "57000", 54, "Software Engineer");
+    private final CreateEmployee invalid = new CreateEmployee(" ", "lots", 12, null);
+
+    @Benchmark
+    public CreateEmployee valid() throws EmployeeValidationError {
+        service.validateCreateEmployee(valid);
+        return valid;
+    }
+
+    @Benchmark
+    public EmployeeValidationError invalid() {
+        try {
+            service.validateCreateEmployee(invalid);
+            throw new IllegalStateException("expected a validation error");
+        } catch (EmployeeValidationError e) {
+            return e;
+        }
+    }
+}
@@ -1,13 +1,86 @@
 package com.reliaquest.api;
 
+import java.time.Duration;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class AppConfig {
+    /**
+     * Pooled client for calls to the employee server. Connections are kept alive for a little less than the server's
+     * idle timeout so requests reuse warm sockets instead of handshaking, and every phase of a call is bounded so a
+     * slow upstream cannot pin request threads.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public CloseableHttpClient employeeHttpClient(
+            @Value("${employees.http.max-connections:50}") int maxConnections,
+            @Value("${employees.http.max-connections-per-route:20}") int maxConnectionsPerRoute,
+            @Value("${employees.http.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${employees.http.read-timeout:5s}") Duration readTimeout,
+            @Value("${employees.http.connection-request-timeout:1s}") Duration connectionRequestTimeout,
+            @Value("${employees.http.keep-alive:15s}") Duration keepAlive,
+            @Value("${employees.http.validate-after-inactivity:2s}") Duration validateAfterInactivity) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivity.toMillis()))
+                        .build())
+                .build();
+        TimeValue keepAliveTime = TimeValue.ofMilliseconds(keepAlive.toMillis());
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeout.toMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> keepAliveTime)
+                .evictIdleConnections(keepAliveTime)
+                .evictExpiredConnections()
+                .build();
+    }
+
+    /**
+     * Runs blocking upstream calls for the async endpoints, so request threads are released while a call is in flight.
+     * Callers waiting on the same snapshot load share its future rather than a thread each. With virtual threads
+     * enabled (Java 21+) every call gets its own virtual thread and the pool limits no longer apply; concurrency is
+     * then bounded by the HTTP connection pool and the rate limiter instead.
+     */
+    @Bean
+    public AsyncTaskExecutor upstreamExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${employees.async.pool-size:20}") int poolSize,
+            @Value("${employees.async.queue-capacity:500}") int queueCapacity) {
+        if (virtualThreads) {
+            return new VirtualThreadTaskExecutor("employee-upstream-");
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("employee-upstream-");
+        return executor;
+    }
+
+    @Bean
+    public RestTemplate restTemplate(HttpClient employeeHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(employeeHttpClient));
     }
 }
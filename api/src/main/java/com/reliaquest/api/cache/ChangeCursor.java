@@ -0,0 +1,6 @@
+package com.reliaquest.api.cache;
+
+/**
+ * Where a snapshot stands in the upstream change feed: the roster version it reflects, within one upstream run.
+ */
+public record ChangeCursor(String epoch, long version) {}
@@ -0,0 +1,358 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.models.Employee;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.UUID;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * The roster stored one array per field rather than one object per employee. Ids are split into two longs, salary and
+ * age are plain ints and titles are codes into a shared dictionary, so a row costs a few dozen bytes plus its name and
+ * email. {@link Employee} records are only built when a row is read.
+ */
+final class EmployeeColumns {
+    static final int NO_AGE = Integer.MIN_VALUE;
+    static final int NO_TITLE = -1;
+
+    private final int size;
+    private final boolean[] hasId;
+    private final long[] idHigh;
+    private final long[] idLow;
+    private final String[] names;
+    private final int[] salaries;
+    // only set where the salary string is not the canonical form of its value, e.g. malformed or zero-padded
+    private final String[] rawSalaries;
+    private final int[] ages;
+    private final int[] titleCodes;
+    private final String[] titles;
+    private final String[] emails;
+
+    private EmployeeColumns(
+            int size,
+            boolean[] hasId,
+            long[] idHigh,
+            long[] idLow,
+            String[] names,
+            int[] salaries,
+            String[] rawSalaries,
+            int[] ages,
+            int[] titleCodes,
+            String[] titles,
+            String[] emails) {
+        this.size = size;
+        this.hasId = hasId;
+        this.idHigh = idHigh;
+        this.idLow = idLow;
+        this.names = names;
+        this.salaries = salaries;
+        this.rawSalaries = rawSalaries;
+        this.ages = ages;
+        this.titleCodes = titleCodes;
+        this.titles = titles;
+        this.emails = emails;
+    }
+
+    static EmployeeColumns of(List<Employee> employees) {
+        int size = employees.size();
+        EmployeeColumns columns = new EmployeeColumns(
+                size,
+                new boolean[size],
+                new long[size],
+                new long[size],
+                new String[size],
+                new int[size],
+                new String[size],
+                new int[size],
+                new int[size],
+                null,
+                new String[size]);
+        Map<String, Integer> dictionary = new HashMap<>();
+        for (int row = 0; row < size; row++) {
+            Employee employee = employees.get(row);
+            columns.set(row, employee);
+            String title = employee.title();
+            columns.titleCodes[row] =
+                    title == null ? NO_TITLE : dictionary.computeIfAbsent(title, t -> dictionary.size());
+        }
+        String[] titles = new String[dictionary.size()];
+        dictionary.forEach((title, code) -> titles[code] = title);
+        return columns.withTitles(titles);
+    }
+
+    int size() {
+        return size;
+    }
+
+    Employee row(int row) {
+        UUID id = hasId[row] ? new UUID(idHigh[row], idLow[row]) : null;
+        int salary = salaries[row];
+        String rawSalary = rawSalaries[row];
+        return new Employee(
+                id,
+                names[row],
+                rawSalary != null || salary == Employee.MALFORMED_SALARY ? rawSalary : Integer.toString(salary),
+                ages[row] == NO_AGE ? null : ages[row],
+                titleCodes[row] == NO_TITLE ? null : titles[titleCodes[row]],
+                emails[row],
+                salary);
+    }
+
+    List<Employee> rows() {
+        return new Rows(this);
+    }
+
+    String name(int row) {
+        return names[row];
+    }
+
+    int salary(int row) {
+        return salaries[row];
+    }
+
+    /**
+     * @return the age, or {@link #NO_AGE}
+     */
+    int age(int row) {
+        return ages[row];
+    }
+
+    /**
+     * @return the row's index into {@link #title(int)}, or {@link #NO_TITLE}
+     */
+    int titleCode(int row) {
+        return titleCodes[row];
+    }
+
+    int titleCount() {
+        return titles.length;
+    }
+
+    String title(int code) {
+        return titles[code];
+    }
+
+    boolean hasId(int row) {
+        return hasId[row];
+    }
+
+    /**
+     * @return the row's id, or null
+     */
+    UUID id(int row) {
+        return hasId[row] ? new UUID(idHigh[row], idLow[row]) : null;
+    }
+
+    /**
+     * Orders rows the way {@link UUID#compareTo} orders their ids; rows without an id sort last.
+     */
+    int compareIds(int left, int right) {
+        if (hasId[left] != hasId[right]) {
+            return hasId[left] ? -1 : 1;
+        }
+        int high = Long.compare(idHigh[left], idHigh[right]);
+        return high != 0 ? high : Long.compare(idLow[left], idLow[right]);
+    }
+
+    int compareId(int row, UUID id) {
+        int high = Long.compare(idHigh[row], id.getMostSignificantBits());
+        return high != 0 ? high : Long.compare(idLow[row], id.getLeastSignificantBits());
+    }
+
+    /**
+     * Stable merge sort of row numbers, so orderings over the columns need no boxed comparator.
+     */
+    static void sortRows(int[] rows, IntBinaryOperator order) {
+        int[] buffer = new int[rows.length];
+        for (int width = 1; width < rows.length; width *= 2) {
+            for (int low = 0; low < rows.length - width; low += 2 * width) {
+                int mid = low + width;
+                int high = Math.min(low + 2 * width, rows.length);
+                int left = low;
+                int right = mid;
+                int out = low;
+                while (left < mid && right < high) {
+                    buffer[out++] = order.applyAsInt(rows[left], rows[right]) <= 0 ? rows[left++] : rows[right++];
+                }
+                System.arraycopy(rows, left, buffer, out, mid - left);
+                out += mid - left;
+                System.arraycopy(rows, right, buffer, out, high - right);
+                System.arraycopy(buffer, low, rows, low, high - low);
+            }
+        }
+    }
+
+    EmployeeColumns withRow(Employee employee) {
+        EmployeeColumns patched = new EmployeeColumns(
+                size + 1,
+                Arrays.copyOf(hasId, size + 1),
+                Arrays.copyOf(idHigh, size + 1),
+                Arrays.copyOf(idLow, size + 1),
+                Arrays.copyOf(names, size + 1),
+                Arrays.copyOf(salaries, size + 1),
+                Arrays.copyOf(rawSalaries, size + 1),
+                Arrays.copyOf(ages, size + 1),
+                Arrays.copyOf(titleCodes, size + 1),
+                titles,
+                Arrays.copyOf(emails, size + 1));
+        patched.set(size, employee);
+        String title = employee.title();
+        if (title == null) {
+            patched.titleCodes[size] = NO_TITLE;
+            return patched;
+        }
+        for (int code = 0; code < titles.length; code++) {
+            if (titles[code].equals(title)) {
+                patched.titleCodes[size] = code;
+                return patched;
+            }
+        }
+        String[] extended = Arrays.copyOf(titles, titles.length + 1);
+        extended[titles.length] = title;
+        patched.titleCodes[size] = titles.length;
+        return patched.withTitles(extended);
+    }
+
+    /**
+     * Applies a batch of writes as one copy: the rows not removed, in order, followed by the appended employees.
+     */
+    EmployeeColumns withRows(BitSet removed, List<Employee> appended) {
+        int kept = size - removed.cardinality();
+        int patchedSize = kept + appended.size();
+        EmployeeColumns patched = new EmployeeColumns(
+                patchedSize,
+                new boolean[patchedSize],
+                new long[patchedSize],
+                new long[patchedSize],
+                new String[patchedSize],
+                new int[patchedSize],
+                new String[patchedSize],
+                new int[patchedSize],
+                new int[patchedSize],
+                titles,
+                new String[patchedSize]);
+        int out = 0;
+        for (int from = removed.nextClearBit(0); from < size; from = removed.nextClearBit(from)) {
+            int to = removed.nextSetBit(from);
+            to = to < 0 ? size : Math.min(to, size);
+            int length = to - from;
+            System.arraycopy(hasId, from, patched.hasId, out, length);
+            System.arraycopy(idHigh, from, patched.idHigh, out, length);
+            System.arraycopy(idLow, from, patched.idLow, out, length);
+            System.arraycopy(names, from, patched.names, out, length);
+            System.arraycopy(salaries, from, patched.salaries, out, length);
+            System.arraycopy(rawSalaries, from, patched.rawSalaries, out, length);
+            System.arraycopy(ages, from, patched.ages, out, length);
+            System.arraycopy(titleCodes, from, patched.titleCodes, out, length);
+            System.arraycopy(emails, from, patched.emails, out, length);
+            out += length;
+            from = to;
+        }
+        if (appended.isEmpty()) {
+            return patched;
+        }
+        Map<String, Integer> dictionary = new HashMap<>();
+        for (int code = 0; code < titles.length; code++) {
+            dictionary.put(titles[code], code);
+        }
+        for (Employee employee : appended) {
+            patched.set(out, employee);
+            String title = employee.title();
+            patched.titleCodes[out++] =
+                    title == null ? NO_TITLE : dictionary.computeIfAbsent(title, t -> dictionary.size());
+        }
+        if (dictionary.size() == titles.length) {
+            return patched;
+        }
+        String[] extended = Arrays.copyOf(titles, dictionary.size());
+        dictionary.forEach((title, code) -> extended[code] = title);
+        return patched.withTitles(extended);
+    }
+
+    EmployeeColumns withoutRow(int row) {
+        return new EmployeeColumns(
+                size - 1,
+                remove(hasId, row),
+                remove(idHigh, row),
+                remove(idLow, row),
+                remove(names, row),
+                remove(salaries, row),
+                remove(rawSalaries, row),
+                remove(ages, row),
+                remove(titleCodes, row),
+                titles,
+                remove(emails, row));
+    }
+
+    private void set(int row, Employee employee) {
+        UUID id = employee.id();
+        if (id != null) {
+            hasId[row] = true;
+            idHigh[row] = id.getMostSignificantBits();
+            idLow[row] = id.getLeastSignificantBits();
+        }
+        names[row] = employee.name();
+        int salary = employee.salaryValue();
+        salaries[row] = salary;
+        if (salary == Employee.MALFORMED_SALARY || !Integer.toString(salary).equals(employee.salary())) {
+            rawSalaries[row] = employee.salary();
+        }
+        ages[row] = employee.employeeAge() == null ? NO_AGE : employee.employeeAge();
+        emails[row] = employee.email();
+    }
+
+    private EmployeeColumns withTitles(String[] dictionary) {
+        return new EmployeeColumns(
+                size, hasId, idHigh, idLow, names, salaries, rawSalaries, ages, titleCodes, dictionary, emails);
+    }
+
+    private static boolean[] remove(boolean[] column, int row) {
+        boolean[] result = Arrays.copyOf(column, column.length - 1);
+        System.arraycopy(column, row + 1, result, row, column.length - row - 1);
+        return result;
+    }
+
+    private static long[] remove(long[] column, int row) {
+        long[] result = Arrays.copyOf(column, column.length - 1);
+        System.arraycopy(column, row + 1, result, row, column.length - row - 1);
+        return result;
+    }
+
+    private static int[] remove(int[] column, int row) {
+        int[] result = Arrays.copyOf(column, column.length - 1);
+        System.arraycopy(column, row + 1, result, row, column.length - row - 1);
+        return result;
+    }
+
+    private static String[] remove(String[] column, int row) {
+        String[] result = Arrays.copyOf(column, column.length - 1);
+        System.arraycopy(column, row + 1, result, row, column.length - row - 1);
+        return result;
+    }
+
+    private static final class Rows extends AbstractList<Employee> implements RandomAccess {
+        private final EmployeeColumns columns;
+
+        Rows(EmployeeColumns columns) {
+            this.columns = columns;
+        }
+
+        @Override
+        public Employee get(int index) {
+            if (index < 0 || index >= columns.size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return columns.row(index);
+        }
+
+        @Override
+        public int size() {
+            return columns.size;
+        }
+    }
+}
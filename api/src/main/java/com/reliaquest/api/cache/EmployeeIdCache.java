@@ -0,0 +1,87 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.models.Employee;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded least-recently-used cache of single employee lookups. Ids the upstream reported as missing are remembered
+ * for the shorter negative ttl. A max size of zero disables the cache.
+ */
+@Component
+public class EmployeeIdCache {
+    private final int maxSize;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final Clock clock;
+    private final LinkedHashMap<UUID, CachedEmployee> entries;
+
+    @Autowired
+    public EmployeeIdCache(
+            @Value("${employees.cache.by-id.max-size:10000}") int maxSize,
+            @Value("${employees.cache.by-id.ttl:30s}") Duration ttl,
+            @Value("${employees.cache.by-id.negative-ttl:5s}") Duration negativeTtl) {
+        this(maxSize, ttl, negativeTtl, Clock.systemUTC());
+    }
+
+    EmployeeIdCache(int maxSize, Duration ttl, Duration negativeTtl, Clock clock) {
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CachedEmployee> eldest) {
+                return size() > EmployeeIdCache.this.maxSize;
+            }
+        };
+    }
+
+    public static EmployeeIdCache disabled() {
+        return new EmployeeIdCache(0, Duration.ZERO, Duration.ZERO, Clock.systemUTC());
+    }
+
+    /**
+     * @return the cached lookup, whose employee is null when the id is known to be missing, or null on a cache miss
+     */
+    public synchronized CachedEmployee get(UUID id) {
+        CachedEmployee cached = entries.get(id);
+        if (cached != null && !clock.instant().isBefore(cached.expiresAt())) {
+            entries.remove(id);
+            return null;
+        }
+        return cached;
+    }
+
+    public void put(Employee employee) {
+        if (employee.id() != null) {
+            store(employee.id(), new CachedEmployee(employee, clock.instant().plus(ttl)));
+        }
+    }
+
+    public void putMissing(UUID id) {
+        store(id, new CachedEmployee(null, clock.instant().plus(negativeTtl)));
+    }
+
+    public synchronized void evictNamed(String name) {
+        entries.values()
+                .removeIf(cached -> cached.employee() != null
+                        && cached.employee().name() != null
+                        && cached.employee().name().equalsIgnoreCase(name));
+    }
+
+    private synchronized void store(UUID id, CachedEmployee cached) {
+        if (maxSize > 0) {
+            entries.put(id, cached);
+        }
+    }
+
+    public record CachedEmployee(Employee employee, Instant expiresAt) {}
+}
@@ -0,0 +1,324 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeeChange;
+import com.reliaquest.api.models.RosterStats;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Immutable view of the employee roster as of {@link #loadedAt()}, held as {@link EmployeeColumns} so that employee
+ * records are only built for the rows a caller reads. Lookup indexes are built on first use. A salary leaderboard or
+ * name index that has been built is patched by local writes rather than rebuilt, as are changes replayed from the
+ * upstream feed.
+ */
+public final class EmployeeSnapshot {
+    private final EmployeeColumns columns;
+    private final Instant loadedAt;
+    private final String eTag;
+    private final ChangeCursor changeCursor;
+    private volatile SalaryLeaderboard leaderboard;
+    private volatile NameIndex byName;
+    private volatile int[] idOrder;
+    private volatile RosterDistribution distribution;
+
+    public EmployeeSnapshot(List<Employee> employees, Instant loadedAt) {
+        this(employees, loadedAt, null, null);
+    }
+
+    /**
+     * @param eTag the upstream validator the roster was served with, or null if it had none
+     * @param changeCursor the upstream roster version it was served at, or null if the upstream has no change feed
+     */
+    public EmployeeSnapshot(List<Employee> employees, Instant loadedAt, String eTag, ChangeCursor changeCursor) {
+        this(EmployeeColumns.of(employees), loadedAt, eTag, changeCursor, null, null);
+    }
+
+    private EmployeeSnapshot(
+            EmployeeColumns columns,
+            Instant loadedAt,
+            String eTag,
+            ChangeCursor changeCursor,
+            SalaryLeaderboard leaderboard,
+            NameIndex byName) {
+        this.columns = columns;
+        this.loadedAt = loadedAt;
+        this.eTag = eTag;
+        this.changeCursor = changeCursor;
+        this.leaderboard = leaderboard;
+        this.byName = byName;
+    }
+
+    /**
+     * @return a read-only list that builds each employee as it is accessed
+     */
+    public List<Employee> employees() {
+        return columns.rows();
+    }
+
+    public int size() {
+        return columns.size();
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    public Duration age(Instant now) {
+        return Duration.between(loadedAt, now);
+    }
+
+    /**
+     * @return the upstream validator for this roster, or null once a local write has patched it
+     */
+    public String eTag() {
+        return eTag;
+    }
+
+    /**
+     * Local writes keep the cursor, since the upstream writes they mirror come back through the feed and are skipped.
+     *
+     * @return the upstream change feed version this roster has caught up to, or null if it cannot follow the feed
+     */
+    public ChangeCursor changeCursor() {
+        return changeCursor;
+    }
+
+    /**
+     * @return this roster as confirmed unchanged upstream at the given time, keeping every index built so far
+     */
+    public EmployeeSnapshot revalidated(Instant loadedAt) {
+        return revalidated(loadedAt, changeCursor);
+    }
+
+    private EmployeeSnapshot revalidated(Instant loadedAt, ChangeCursor caughtUp) {
+        EmployeeSnapshot revalidated = new EmployeeSnapshot(columns, loadedAt, eTag, caughtUp, leaderboard, byName);
+        revalidated.idOrder = idOrder;
+        revalidated.distribution = distribution;
+        return revalidated;
+    }
+
+    public Employee findById(UUID id) {
+        int[] ordered = idOrder();
+        int index = firstAfter(ordered, id, false);
+        return index < ordered.length && columns.compareId(ordered[index], id) == 0
+                ? columns.row(ordered[index])
+                : null;
+    }
+
+    /**
+     * Keyset page over the roster ordered by id, so a cursor stays valid while employees are added or removed.
+     * Employees without an id are not listed.
+     *
+     * @param after the last id of the previous page, or null for the first page
+     */
+    public List<Employee> pageAfter(UUID after, int limit) {
+        int[] ordered = idOrder();
+        int from = after != null ? firstAfter(ordered, after, true) : 0;
+        int to = from + Math.max(0, Math.min(limit, ordered.length - from));
+        List<Employee> page = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            page.add(columns.row(ordered[i]));
+        }
+        return List.copyOf(page);
+    }
+
+    /**
+     * @return employees whose name contains the query ignoring case, in roster order
+     */
+    public List<Employee> findByNameContaining(String query) {
+        return findByNameContaining(query, ParallelScan.sequential());
+    }
+
+    /**
+     * Like {@link #findByNameContaining(String)}, with scans over many rows split across the given scan's pool.
+     */
+    public List<Employee> findByNameContaining(String query, ParallelScan scan) {
+        NameIndex index = byName;
+        if (index == null) {
+            index = NameIndex.of(columns);
+            byName = index;
+        }
+        return index.search(query, scan);
+    }
+
+    /**
+     * @throws NumberFormatException if any employee's salary is not an integer
+     */
+    public SalaryLeaderboard salaryLeaderboard() {
+        SalaryLeaderboard ranked = leaderboard;
+        if (ranked == null) {
+            ranked = SalaryLeaderboard.of(columns);
+            leaderboard = ranked;
+        }
+        return ranked;
+    }
+
+    /**
+     * Salary and age aggregates for the whole roster and per title. The sorted values behind them are built on first
+     * use and rebuilt after a local write rather than patched, since writes are rare next to dashboard reads.
+     *
+     * @param buckets how many histogram buckets to split each field's range into
+     */
+    public RosterStats stats(int buckets) {
+        RosterDistribution values = distribution;
+        if (values == null) {
+            values = RosterDistribution.of(columns);
+            distribution = values;
+        }
+        return values.stats(buckets);
+    }
+
+    public EmployeeSnapshot withEmployee(Employee employee) {
+        EmployeeColumns patched = columns.withRow(employee);
+        SalaryLeaderboard ranked = leaderboard;
+        NameIndex index = byName;
+        return new EmployeeSnapshot(
+                patched,
+                loadedAt,
+                null,
+                changeCursor,
+                ranked != null && employee.hasValidSalary() ? ranked.withAppendedRow(patched) : null,
+                index != null ? index.withRows(new BitSet(), patched) : null);
+    }
+
+    /*
+     * Mirrors the upstream delete, which removes the first employee whose name matches ignoring case.
+     */
+    public EmployeeSnapshot withoutEmployeeNamed(String name) {
+        for (int row = 0; row < columns.size(); row++) {
+            String candidate = columns.name(row);
+            if (candidate != null && candidate.equalsIgnoreCase(name)) {
+                return withoutRow(row);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Replays upstream changes as of the given time. Each change is applied at most once: a creation whose id is
+     * already present, or a deletion whose id is not, is skipped, so changes this instance already patched in locally
+     * are not doubled. The changes are resolved against one scan of the rows and applied as a single copy of the
+     * columns, with a built leaderboard merged rather than re-sorted and a built name index patched, so catching up
+     * costs O(rows + changes) however many changes there are.
+     *
+     * @param caughtUp the cursor after the last of the changes
+     */
+    public EmployeeSnapshot withChanges(List<EmployeeChange> changes, ChangeCursor caughtUp, Instant loadedAt) {
+        Map<UUID, ArrayDeque<Integer>> rowsById = new HashMap<>();
+        for (EmployeeChange change : changes) {
+            if (change.employee().id() != null) {
+                rowsById.putIfAbsent(change.employee().id(), new ArrayDeque<>());
+            }
+        }
+        if (!rowsById.isEmpty()) {
+            for (int row = 0; row < columns.size(); row++) {
+                ArrayDeque<Integer> rows = columns.hasId(row) ? rowsById.get(columns.id(row)) : null;
+                if (rows != null) {
+                    rows.addLast(row);
+                }
+            }
+        }
+        BitSet removed = new BitSet(columns.size());
+        List<Employee> appended = new ArrayList<>();
+        // creations earlier in this replay, by id, as indexes into appended
+        Map<UUID, Integer> created = new HashMap<>();
+        for (EmployeeChange change : changes) {
+            Employee employee = change.employee();
+            UUID id = employee.id();
+            ArrayDeque<Integer> rows = id != null ? rowsById.get(id) : null;
+            if (change.type() == EmployeeChange.Type.CREATED) {
+                if (id == null) {
+                    appended.add(employee);
+                } else if (rows.isEmpty() && !created.containsKey(id)) {
+                    created.put(id, appended.size());
+                    appended.add(employee);
+                }
+            } else if (change.type() == EmployeeChange.Type.DELETED && id != null) {
+                // existing rows come before appended ones, so they are the first match
+                if (!rows.isEmpty()) {
+                    removed.set(rows.removeFirst());
+                } else if (created.containsKey(id)) {
+                    appended.set(created.remove(id), null);
+                }
+            }
+        }
+        appended.removeIf(Objects::isNull);
+        if (removed.isEmpty() && appended.isEmpty()) {
+            return revalidated(loadedAt, caughtUp);
+        }
+        EmployeeColumns patched = columns.withRows(removed, appended);
+        SalaryLeaderboard ranked = leaderboard;
+        boolean rankable = ranked != null && appended.stream().allMatch(Employee::hasValidSalary);
+        NameIndex index = byName;
+        return new EmployeeSnapshot(
+                patched,
+                loadedAt,
+                null,
+                caughtUp,
+                rankable ? ranked.withRows(removed, patched) : null,
+                index != null ? index.withRows(removed, patched) : null);
+    }
+
+    private EmployeeSnapshot withoutRow(int row) {
+        EmployeeColumns patched = columns.withoutRow(row);
+        SalaryLeaderboard ranked = leaderboard;
+        NameIndex index = byName;
+        BitSet removed = new BitSet();
+        removed.set(row);
+        return new EmployeeSnapshot(
+                patched,
+                loadedAt,
+                null,
+                changeCursor,
+                ranked != null ? ranked.withoutRow(row, patched) : null,
+                index != null ? index.withRows(removed, patched) : null);
+    }
+
+    /*
+     * Rows that have an id, in id order; the first of any duplicate ids wins lookups.
+     */
+    private int[] idOrder() {
+        int[] ordered = idOrder;
+        if (ordered == null) {
+            ordered = new int[columns.size()];
+            int count = 0;
+            for (int row = 0; row < ordered.length; row++) {
+                if (columns.hasId(row)) {
+                    ordered[count++] = row;
+                }
+            }
+            ordered = Arrays.copyOf(ordered, count);
+            EmployeeColumns.sortRows(ordered, columns::compareIds);
+            idOrder = ordered;
+        }
+        return ordered;
+    }
+
+    /*
+     * Index of the first row whose id is above the given one, or at or above it when not exclusive.
+     */
+    private int firstAfter(int[] ordered, UUID id, boolean exclusive) {
+        int low = 0;
+        int high = ordered.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int comparison = columns.compareId(ordered[mid], id);
+            if (exclusive ? comparison <= 0 : comparison < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,274 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.exceptions.ExternalApiRateLimitException;
+import com.reliaquest.api.models.Employee;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read-through cache for the full employee roster. Snapshots are served until they are older than the ttl, refreshed
+ * in the background once they enter the refresh-ahead window, and concurrent loads share a single upstream call.
+ * Local writes are patched into the current snapshot rather than invalidating it. An expired snapshot can still be
+ * served for up to max-stale past its ttl: always if stale-while-revalidate is on, while a background load replaces it,
+ * and otherwise only when a load is refused because the upstream is rate limiting. A ttl of zero disables caching and
+ * every read goes to the loader. Loads are handed the snapshot they replace, so a loader can revalidate it upstream
+ * instead of transferring the roster again.
+ */
+@Component
+public class EmployeeSnapshotCache {
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeSnapshotCache.class);
+
+    private final Duration ttl;
+    private final Duration refreshAhead;
+    private final Duration maxStale;
+    private final boolean staleWhileRevalidate;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final AtomicReference<EmployeeSnapshot> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<EmployeeSnapshot>> inFlight = new AtomicReference<>();
+    private long mutations;
+
+    @Autowired
+    public EmployeeSnapshotCache(
+            @Value("${employees.cache.ttl:30s}") Duration ttl,
+            @Value("${employees.cache.refresh-ahead:10s}") Duration refreshAhead,
+            @Value("${employees.cache.max-stale:5m}") Duration maxStale,
+            @Value("${employees.cache.stale-while-revalidate:true}") boolean staleWhileRevalidate) {
+        this(
+                ttl,
+                refreshAhead,
+                maxStale,
+                staleWhileRevalidate,
+                Clock.systemUTC(),
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "employee-snapshot-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    EmployeeSnapshotCache(
+            Duration ttl,
+            Duration refreshAhead,
+            Duration maxStale,
+            boolean staleWhileRevalidate,
+            Clock clock,
+            Executor refreshExecutor) {
+        this.ttl = ttl;
+        this.refreshAhead = refreshAhead;
+        this.maxStale = maxStale;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    public static EmployeeSnapshotCache disabled() {
+        return new EmployeeSnapshotCache(
+                Duration.ZERO, Duration.ZERO, Duration.ZERO, false, Clock.systemUTC(), Runnable::run);
+    }
+
+    /**
+     * Builds the snapshot for a load that started at {@code loadedAt}. {@code cached} is the snapshot currently held,
+     * or null, whatever its age; returning {@link EmployeeSnapshot#revalidated} of it keeps its indexes.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        EmployeeSnapshot load(EmployeeSnapshot cached, Instant loadedAt);
+    }
+
+    public boolean isEnabled() {
+        return !ttl.isZero() && !ttl.isNegative();
+    }
+
+    public EmployeeSnapshot get(Supplier<List<Employee>> loader) {
+        return get(fresh(loader));
+    }
+
+    public EmployeeSnapshot get(Loader loader) {
+        return read(loader).snapshot();
+    }
+
+    /**
+     * Like {@link #get} but runs a synchronous load on the given executor, so callers waiting on a miss share the
+     * in-flight future instead of each holding a thread.
+     */
+    public CompletableFuture<EmployeeSnapshot> getAsync(Supplier<List<Employee>> loader, Executor executor) {
+        return getAsync(fresh(loader), executor);
+    }
+
+    public CompletableFuture<EmployeeSnapshot> getAsync(Loader loader, Executor executor) {
+        return readAsync(loader, executor).thenApply(SnapshotRead::snapshot);
+    }
+
+    public SnapshotRead read(Supplier<List<Employee>> loader) {
+        return read(fresh(loader));
+    }
+
+    public SnapshotRead read(Loader loader) {
+        return await(readAsync(loader, Runnable::run));
+    }
+
+    public CompletableFuture<SnapshotRead> readAsync(Supplier<List<Employee>> loader, Executor executor) {
+        return readAsync(fresh(loader), executor);
+    }
+
+    public CompletableFuture<SnapshotRead> readAsync(Loader loader, Executor executor) {
+        if (!isEnabled()) {
+            try {
+                return CompletableFuture.supplyAsync(
+                        () -> served(loader.load(null, clock.instant()), SnapshotRead.Source.UPSTREAM), executor);
+            } catch (RejectedExecutionException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        EmployeeSnapshot snapshot = current.get();
+        if (snapshot != null) {
+            Duration age = snapshot.age(clock.instant());
+            if (age.compareTo(ttl) < 0) {
+                if (age.compareTo(ttl.minus(refreshAhead)) >= 0) {
+                    refreshInBackground(loader, snapshot);
+                }
+                return CompletableFuture.completedFuture(new SnapshotRead(snapshot, SnapshotRead.Source.CACHE, age));
+            }
+            if (staleWhileRevalidate && age.compareTo(ttl.plus(maxStale)) < 0) {
+                refreshInBackground(loader, snapshot);
+                return CompletableFuture.completedFuture(new SnapshotRead(snapshot, SnapshotRead.Source.STALE, age));
+            }
+        }
+        return load(loader, executor, snapshot)
+                .thenApply(loaded -> served(loaded, SnapshotRead.Source.UPSTREAM))
+                .exceptionally(this::staleOrRethrow);
+    }
+
+    /**
+     * @return the current snapshot if it is still within its ttl, without loading or refreshing it
+     */
+    public EmployeeSnapshot peek() {
+        EmployeeSnapshot snapshot = current.get();
+        if (!isEnabled() || snapshot == null || snapshot.age(clock.instant()).compareTo(ttl) >= 0) {
+            return null;
+        }
+        return snapshot;
+    }
+
+    public void invalidate() {
+        current.set(null);
+    }
+
+    public synchronized void update(UnaryOperator<EmployeeSnapshot> patch) {
+        mutations++;
+        EmployeeSnapshot snapshot = current.get();
+        if (snapshot != null) {
+            current.set(patch.apply(snapshot));
+        }
+    }
+
+    /*
+     * A load that overlapped a local write may or may not include it, so it is handed to its waiters but not cached.
+     */
+    private synchronized void install(EmployeeSnapshot loaded, long mutationsAtStart) {
+        if (mutations == mutationsAtStart) {
+            current.set(loaded);
+        }
+    }
+
+    private synchronized long mutationCount() {
+        return mutations;
+    }
+
+    private void refreshInBackground(Loader loader, EmployeeSnapshot observed) {
+        if (inFlight.get() != null) {
+            return;
+        }
+        load(loader, refreshExecutor, observed).whenComplete((snapshot, e) -> {
+            if (e != null) {
+                logger.debug("Background refresh of employee snapshot failed", e);
+            }
+        });
+    }
+
+    private CompletableFuture<EmployeeSnapshot> load(Loader loader, Executor executor, EmployeeSnapshot observed) {
+        CompletableFuture<EmployeeSnapshot> promise = new CompletableFuture<>();
+        CompletableFuture<EmployeeSnapshot> existing = inFlight.compareAndExchange(null, promise);
+        if (existing != null) {
+            return existing;
+        }
+        EmployeeSnapshot latest = current.get();
+        if (latest != null && (observed == null || latest.loadedAt().isAfter(observed.loadedAt()))) {
+            // another load finished between the caller's read and claiming the in-flight slot
+            inFlight.set(null);
+            promise.complete(latest);
+            return promise;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    long mutationsAtStart = mutationCount();
+                    Instant startedAt = clock.instant();
+                    EmployeeSnapshot loaded = loader.load(current.get(), startedAt);
+                    install(loaded, mutationsAtStart);
+                    inFlight.set(null);
+                    promise.complete(loaded);
+                } catch (Throwable e) {
+                    inFlight.set(null);
+                    promise.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.set(null);
+            promise.completeExceptionally(e);
+        }
+        return promise;
+    }
+
+    private static Loader fresh(Supplier<List<Employee>> loader) {
+        return (cached, loadedAt) -> new EmployeeSnapshot(loader.get(), loadedAt);
+    }
+
+    private SnapshotRead served(EmployeeSnapshot snapshot, SnapshotRead.Source source) {
+        return new SnapshotRead(snapshot, source, snapshot.age(clock.instant()));
+    }
+
+    private SnapshotRead staleOrRethrow(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        EmployeeSnapshot stale = current.get();
+        if (!(cause instanceof ExternalApiRateLimitException)
+                || stale == null
+                || stale.age(clock.instant()).compareTo(ttl.plus(maxStale)) >= 0) {
+            throw failure instanceof CompletionException completion ? completion : new CompletionException(cause);
+        }
+        logger.debug("Serving stale employee snapshot: {}", cause.getMessage());
+        return served(stale, SnapshotRead.Source.STALE);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
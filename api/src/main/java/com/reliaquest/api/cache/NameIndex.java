@@ -0,0 +1,251 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.models.Employee;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Trigram index over case-folded employee names. A query of three or more characters only visits names containing all
+ * of its trigrams, and each candidate is confirmed with {@link String#contains}, so results match a case-insensitive
+ * substring scan, in roster order. Shorter queries scan the pre-folded names. Scans and candidate checks run through a
+ * {@link ParallelScan}, so they only split once there are enough rows to visit.
+ *
+ * <p>Names are indexed under slots rather than rows. Rows keep their slot when earlier rows are removed and appended
+ * rows take new, higher slots, so slot order stays roster order and writes patch the index instead of rebuilding it:
+ * a removal only drops the row's slot from the row-to-slot map and leaves its postings to be skipped, while an
+ * append adds postings for the new name alone. Once removed slots outnumber live rows the index is rebuilt.
+ */
+final class NameIndex {
+    private static final int[] NONE = new int[0];
+
+    private final EmployeeColumns columns;
+    // ascending, one per row; slots missing from it belong to removed rows
+    private final int[] slotOfRow;
+    private final String[] folded;
+    private final TrigramTable postings;
+
+    private NameIndex(EmployeeColumns columns, int[] slotOfRow, String[] folded, TrigramTable postings) {
+        this.columns = columns;
+        this.slotOfRow = slotOfRow;
+        this.folded = folded;
+        this.postings = postings;
+    }
+
+    static NameIndex of(EmployeeColumns columns) {
+        int[] slotOfRow = new int[columns.size()];
+        String[] folded = new String[columns.size()];
+        TrigramTable postings = new TrigramTable();
+        for (int row = 0; row < folded.length; row++) {
+            slotOfRow[row] = row;
+            index(columns.name(row), row, folded, postings);
+        }
+        postings.trim();
+        return new NameIndex(columns, slotOfRow, folded, postings);
+    }
+
+    List<Employee> search(String query, ParallelScan scan) {
+        String needle = query.toLowerCase();
+        if (needle.length() < 3) {
+            return scan.filter(
+                    slotOfRow.length,
+                    row -> folded[slotOfRow[row]] != null && folded[slotOfRow[row]].contains(needle),
+                    columns::row);
+        }
+        int[][] lists = new int[needle.length() - 2][];
+        for (int j = 0; j < lists.length; j++) {
+            lists[j] = postings.get(trigram(needle, j));
+        }
+        // intersect rarest first so the candidate set shrinks as early as possible
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+        int[] candidates = lists[0];
+        for (int j = 1; j < lists.length && candidates.length > 0; j++) {
+            candidates = intersect(candidates, lists[j]);
+        }
+        int[] found = rowsOf(candidates);
+        return scan.filter(
+                found.length, j -> folded[slotOfRow[found[j]]].contains(needle), j -> columns.row(found[j]));
+    }
+
+    /**
+     * Carries the index across a batch of writes, patching it the way {@link SalaryLeaderboard#withRows} patches the
+     * ranking: the postings of removed rows stay behind to be skipped, and only the appended names are indexed.
+     *
+     * @param patched these columns without the removed rows, so later rows have moved up, and with any new rows
+     *     appended
+     */
+    NameIndex withRows(BitSet removed, EmployeeColumns patched) {
+        int kept = slotOfRow.length - removed.cardinality();
+        int slots = folded.length + patched.size() - kept;
+        if (slots - patched.size() > patched.size()) {
+            return of(patched);
+        }
+        int[] patchedSlots = new int[patched.size()];
+        int row = 0;
+        for (int from = removed.nextClearBit(0); from < slotOfRow.length; from = removed.nextClearBit(from)) {
+            int to = removed.nextSetBit(from);
+            to = to < 0 ? slotOfRow.length : Math.min(to, slotOfRow.length);
+            System.arraycopy(slotOfRow, from, patchedSlots, row, to - from);
+            row += to - from;
+            from = to;
+        }
+        if (row == patched.size()) {
+            return new NameIndex(patched, patchedSlots, folded, postings);
+        }
+        String[] patchedFolded = Arrays.copyOf(folded, slots);
+        TrigramTable patchedPostings = postings.copy();
+        for (int slot = folded.length; row < patchedSlots.length; row++, slot++) {
+            patchedSlots[row] = slot;
+            index(patched.name(row), slot, patchedFolded, patchedPostings);
+        }
+        patchedPostings.trim();
+        return new NameIndex(patched, patchedSlots, patchedFolded, patchedPostings);
+    }
+
+    private static void index(String name, int slot, String[] folded, TrigramTable postings) {
+        if (name == null) {
+            return;
+        }
+        folded[slot] = name.toLowerCase();
+        for (int j = 0; j + 3 <= folded[slot].length(); j++) {
+            postings.add(trigram(folded[slot], j), slot);
+        }
+    }
+
+    /*
+     * The rows of the given ascending slots, in the same order, dropping slots of removed rows.
+     */
+    private int[] rowsOf(int[] slots) {
+        if (slotOfRow.length == folded.length) {
+            return slots;
+        }
+        int[] rows = new int[slots.length];
+        int count = 0;
+        int from = 0;
+        for (int slot : slots) {
+            int found = Arrays.binarySearch(slotOfRow, from, slotOfRow.length, slot);
+            if (found >= 0) {
+                rows[count++] = found;
+                from = found + 1;
+            } else {
+                from = -found - 1;
+            }
+        }
+        return count == rows.length ? rows : Arrays.copyOf(rows, count);
+    }
+
+    private static long trigram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] smaller = left.length <= right.length ? left : right;
+        int[] larger = smaller == left ? right : left;
+        int[] result = new int[smaller.length];
+        int count = 0;
+        int from = 0;
+        for (int value : smaller) {
+            int found = Arrays.binarySearch(larger, from, larger.length, value);
+            if (found >= 0) {
+                result[count++] = value;
+                from = found + 1;
+            } else {
+                from = -found - 1;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /*
+     * Open-addressed map from a trigram, three chars packed into 48 bits, to the ascending slots of the names
+     * containing it. Avoids boxing a key per trigram occurrence while the index is built. Published tables are
+     * trimmed, so adding to a copy reallocates any list it shares with the original rather than writing into it.
+     */
+    private static final class TrigramTable {
+        private static final long OCCUPIED = 1L << 63;
+
+        private long[] keys;
+        private int[][] lists;
+        private int[] sizes;
+        private int count;
+
+        TrigramTable() {
+            this(new long[1024], new int[1024][], new int[1024], 0);
+        }
+
+        private TrigramTable(long[] keys, int[][] lists, int[] sizes, int count) {
+            this.keys = keys;
+            this.lists = lists;
+            this.sizes = sizes;
+            this.count = count;
+        }
+
+        TrigramTable copy() {
+            return new TrigramTable(keys.clone(), lists.clone(), sizes.clone(), count);
+        }
+
+        void add(long trigram, int id) {
+            int slot = slotOf(trigram);
+            if (keys[slot] == 0) {
+                if ((count + 1) * 2 > keys.length) {
+                    grow();
+                    slot = slotOf(trigram);
+                }
+                keys[slot] = trigram | OCCUPIED;
+                lists[slot] = new int[4];
+                count++;
+            }
+            int size = sizes[slot];
+            int[] list = lists[slot];
+            if (size > 0 && list[size - 1] == id) {
+                return;
+            }
+            if (size == list.length) {
+                list = lists[slot] = Arrays.copyOf(list, size * 2);
+            }
+            list[size] = id;
+            sizes[slot] = size + 1;
+        }
+
+        int[] get(long trigram) {
+            int slot = slotOf(trigram);
+            return keys[slot] == 0 ? NONE : lists[slot];
+        }
+
+        void trim() {
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != 0 && lists[slot].length != sizes[slot]) {
+                    lists[slot] = Arrays.copyOf(lists[slot], sizes[slot]);
+                }
+            }
+        }
+
+        private int slotOf(long trigram) {
+            long key = trigram | OCCUPIED;
+            int mask = keys.length - 1;
+            int slot = (int) (key * 0x9E3779B97F4A7C15L >>> 40) & mask;
+            while (keys[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[][] oldLists = lists;
+            int[] oldSizes = sizes;
+            keys = new long[oldKeys.length * 2];
+            lists = new int[keys.length][];
+            sizes = new int[keys.length];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    int slot = slotOf(oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    lists[slot] = oldLists[i];
+                    sizes[slot] = oldSizes[i];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.reliaquest.api.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Filters and top-n selections over roster rows, split across a dedicated fork-join pool once a roster reaches the
+ * threshold. Below it, and for {@link #sequential()}, they run as one pass on the calling thread, since forking costs
+ * more than it saves on small rosters. Rows are addressed by index so callers can scan columns without building
+ * employee records.
+ */
+@Component
+public final class ParallelScan implements AutoCloseable {
+    private static final int MIN_CHUNK = 4096;
+
+    private final int threshold;
+    private final int minChunk;
+    private final ForkJoinPool pool;
+
+    @Autowired
+    public ParallelScan(
+            @Value("${employees.parallel.threshold:50000}") int threshold,
+            @Value("${employees.parallel.parallelism:0}") int parallelism) {
+        this(
+                threshold,
+                MIN_CHUNK,
+                new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors()));
+    }
+
+    ParallelScan(int threshold, int minChunk, ForkJoinPool pool) {
+        // with a single worker a split only adds forking overhead
+        this.threshold = pool != null && pool.getParallelism() > 1 ? threshold : Integer.MAX_VALUE;
+        this.minChunk = minChunk;
+        this.pool = pool;
+    }
+
+    public static ParallelScan sequential() {
+        return new ParallelScan(Integer.MAX_VALUE, MIN_CHUNK, null);
+    }
+
+    /**
+     * @return the rows passing the test, built with the row function, in row order
+     */
+    public <T> List<T> filter(int size, IntPredicate test, IntFunction<T> row) {
+        if (size < threshold) {
+            return filter(0, size, test, row);
+        }
+        return pool.invoke(new Filter<>(0, size, chunk(size), test, row));
+    }
+
+    /**
+     * Keeps a min-heap of the n largest entries seen, per chunk when split, and merges the chunks' heaps at the end.
+     * Entries are longs so heap comparisons are plain long comparisons; callers pack the sort key into the high half
+     * and the row into the low half.
+     *
+     * @return the n largest entries, largest first
+     */
+    public long[] top(int size, int n, IntToLongFunction entry) {
+        if (n <= 0 || size == 0) {
+            return new long[0];
+        }
+        long[] top = size < threshold ? top(0, size, n, entry) : pool.invoke(new Top(0, size, chunk(size), n, entry));
+        Arrays.sort(top);
+        for (int i = 0, j = top.length - 1; i < j; i++, j--) {
+            long swap = top[i];
+            top[i] = top[j];
+            top[j] = swap;
+        }
+        return top;
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private int chunk(int size) {
+        return Math.max(minChunk, size / (pool.getParallelism() * 4) + 1);
+    }
+
+    private static <T> List<T> filter(int from, int to, IntPredicate test, IntFunction<T> row) {
+        List<T> matches = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            if (test.test(i)) {
+                matches.add(row.apply(i));
+            }
+        }
+        return matches;
+    }
+
+    /*
+     * The heap holds the smallest kept entry at the root, and is returned unsorted.
+     */
+    private static long[] top(int from, int to, int n, IntToLongFunction entry) {
+        long[] heap = new long[Math.min(n, to - from)];
+        int size = 0;
+        for (int i = from; i < to; i++) {
+            long candidate = entry.applyAsLong(i);
+            if (size < heap.length) {
+                heap[size] = candidate;
+                siftUp(heap, size++);
+            } else if (candidate > heap[0]) {
+                heap[0] = candidate;
+                siftDown(heap, size);
+            }
+        }
+        return heap;
+    }
+
+    private static long[] merge(long[] left, long[] right, int n) {
+        long[] heap = Arrays.copyOf(left, Math.min(n, left.length + right.length));
+        int size = left.length;
+        for (long candidate : right) {
+            if (size < heap.length) {
+                heap[size] = candidate;
+                siftUp(heap, size++);
+            } else if (candidate > heap[0]) {
+                heap[0] = candidate;
+                siftDown(heap, size);
+            }
+        }
+        return heap;
+    }
+
+    private static void siftUp(long[] heap, int index) {
+        long entry = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= entry) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = entry;
+    }
+
+    private static void siftDown(long[] heap, int size) {
+        long entry = heap[0];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (entry <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = entry;
+    }
+
+    private static final class Filter<T> extends RecursiveTask<List<T>> {
+        private final int from;
+        private final int to;
+        private final int chunk;
+        private final IntPredicate test;
+        private final IntFunction<T> row;
+
+        Filter(int from, int to, int chunk, IntPredicate test, IntFunction<T> row) {
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+            this.test = test;
+            this.row = row;
+        }
+
+        @Override
+        protected List<T> compute() {
+            if (to - from <= chunk) {
+                return filter(from, to, test, row);
+            }
+            int mid = (from + to) >>> 1;
+            Filter<T> right = new Filter<>(mid, to, chunk, test, row);
+            right.fork();
+            List<T> matches = new Filter<>(from, mid, chunk, test, row).compute();
+            matches.addAll(right.join());
+            return matches;
+        }
+    }
+
+    private static final class Top extends RecursiveTask<long[]> {
+        private final int from;
+        private final int to;
+        private final int chunk;
+        private final int n;
+        private final IntToLongFunction entry;
+
+        Top(int from, int to, int chunk, int n, IntToLongFunction entry) {
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+            this.n = n;
+            this.entry = entry;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= chunk) {
+                return top(from, to, n, entry);
+            }
+            int mid = (from + to) >>> 1;
+            Top right = new Top(mid, to, chunk, n, entry);
+            right.fork();
+            long[] left = new Top(from, mid, chunk, n, entry).compute();
+            return merge(left, right.join(), n);
+        }
+    }
+}
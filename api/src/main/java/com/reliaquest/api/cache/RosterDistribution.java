@@ -0,0 +1,193 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.FieldStats;
+import com.reliaquest.api.models.GroupStats;
+import com.reliaquest.api.models.HistogramBucket;
+import com.reliaquest.api.models.RosterStats;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Salaries and ages of a snapshot grouped by title, each group's values sorted in one contiguous run of an int array.
+ * Building it is a pass over the columns to count groups, a pass to scatter and sum the values, and a sort per group;
+ * after that every aggregate is read off the sorted runs, and a histogram is a binary search per bucket edge.
+ */
+final class RosterDistribution {
+    private static final int[] PERCENTILES = {25, 50, 75, 90, 95, 99};
+
+    // group g is titles[g], and the last group holds employees without a title
+    private final String[] titles;
+    private final int[] headcounts;
+    private final Values salaries;
+    private final Values ages;
+
+    private RosterDistribution(String[] titles, int[] headcounts, Values salaries, Values ages) {
+        this.titles = titles;
+        this.headcounts = headcounts;
+        this.salaries = salaries;
+        this.ages = ages;
+    }
+
+    static RosterDistribution of(EmployeeColumns columns) {
+        int size = columns.size();
+        int untitled = columns.titleCount();
+        String[] titles = new String[untitled + 1];
+        for (int code = 0; code < untitled; code++) {
+            titles[code] = columns.title(code);
+        }
+        int[] groups = new int[size];
+        int[] headcounts = new int[titles.length];
+        for (int row = 0; row < size; row++) {
+            int code = columns.titleCode(row);
+            int group = code == EmployeeColumns.NO_TITLE ? untitled : code;
+            groups[row] = group;
+            headcounts[group]++;
+        }
+        return new RosterDistribution(
+                titles,
+                headcounts,
+                Values.of(groups, titles.length, columns::salary, Employee.MALFORMED_SALARY),
+                Values.of(groups, titles.length, columns::age, EmployeeColumns.NO_AGE));
+    }
+
+    /**
+     * @param buckets how many histogram buckets to split each field's range into; a range holding fewer distinct
+     *     values than that gets one bucket per value instead
+     */
+    RosterStats stats(int buckets) {
+        GroupStats all = new GroupStats(
+                null, Arrays.stream(headcounts).sum(), salaries.overall(buckets), ages.overall(buckets));
+        List<Integer> present = new ArrayList<>();
+        for (int group = 0; group < titles.length - 1; group++) {
+            if (headcounts[group] > 0) {
+                present.add(group);
+            }
+        }
+        present.sort(Comparator.comparing(group -> titles[group]));
+        if (headcounts[titles.length - 1] > 0) {
+            present.add(titles.length - 1);
+        }
+        List<GroupStats> byTitle = new ArrayList<>(present.size());
+        for (int group : present) {
+            byTitle.add(new GroupStats(
+                    titles[group], headcounts[group], salaries.group(group, buckets), ages.group(group, buckets)));
+        }
+        return new RosterStats(all, List.copyOf(byTitle));
+    }
+
+    /**
+     * One field's present values, both grouped and as a whole, each sorted ascending.
+     */
+    private static final class Values {
+        private final int[] grouped;
+        // group g's values are grouped[offsets[g]] up to grouped[offsets[g + 1]]
+        private final int[] offsets;
+        private final long[] sums;
+        private final int[] all;
+
+        private Values(int[] grouped, int[] offsets, long[] sums, int[] all) {
+            this.grouped = grouped;
+            this.offsets = offsets;
+            this.sums = sums;
+            this.all = all;
+        }
+
+        static Values of(int[] groups, int groupCount, IntUnaryOperator field, int missing) {
+            int[] offsets = new int[groupCount + 1];
+            for (int row = 0; row < groups.length; row++) {
+                if (field.applyAsInt(row) != missing) {
+                    offsets[groups[row] + 1]++;
+                }
+            }
+            for (int group = 0; group < groupCount; group++) {
+                offsets[group + 1] += offsets[group];
+            }
+            int[] grouped = new int[offsets[groupCount]];
+            int[] next = Arrays.copyOf(offsets, groupCount);
+            long[] sums = new long[groupCount];
+            for (int row = 0; row < groups.length; row++) {
+                int value = field.applyAsInt(row);
+                if (value != missing) {
+                    int group = groups[row];
+                    grouped[next[group]++] = value;
+                    sums[group] += value;
+                }
+            }
+            int[] all = grouped.clone();
+            for (int group = 0; group < groupCount; group++) {
+                Arrays.sort(grouped, offsets[group], offsets[group + 1]);
+            }
+            Arrays.sort(all);
+            return new Values(grouped, offsets, sums, all);
+        }
+
+        FieldStats overall(int buckets) {
+            return stats(all, 0, all.length, Arrays.stream(sums).sum(), buckets);
+        }
+
+        FieldStats group(int group, int buckets) {
+            return stats(grouped, offsets[group], offsets[group + 1], sums[group], buckets);
+        }
+
+        private static FieldStats stats(int[] sorted, int from, int to, long sum, int buckets) {
+            int count = to - from;
+            if (count == 0) {
+                return new FieldStats(0, 0, null, null, null, Map.of(), List.of());
+            }
+            int min = sorted[from];
+            int max = sorted[to - 1];
+            Map<String, Integer> percentiles = new LinkedHashMap<>();
+            for (int percentile : PERCENTILES) {
+                int rank = (int) Math.ceil(percentile / 100.0 * count);
+                percentiles.put("p" + percentile, sorted[from + Math.max(rank, 1) - 1]);
+            }
+            return new FieldStats(
+                    count,
+                    sum,
+                    (double) sum / count,
+                    min,
+                    max,
+                    percentiles,
+                    histogram(sorted, from, to, min, max, buckets));
+        }
+
+        /*
+         * Exactly the requested number of buckets, with widths differing by at most one, unless the range holds fewer
+         * values than that; then it is clamped to one bucket per value.
+         */
+        private static List<HistogramBucket> histogram(int[] sorted, int from, int to, int min, int max, int buckets) {
+            long span = (long) max - min + 1;
+            int count = (int) Math.min(buckets, span);
+            List<HistogramBucket> histogram = new ArrayList<>(count);
+            int start = from;
+            for (int i = 0; i < count; i++) {
+                long low = min + span * i / count;
+                long high = min + span * (i + 1) / count;
+                int end = firstAtLeast(sorted, start, to, high);
+                histogram.add(new HistogramBucket((int) low, (int) Math.min(high, Integer.MAX_VALUE), end - start));
+                start = end;
+            }
+            return histogram;
+        }
+
+        private static int firstAtLeast(int[] sorted, int from, int to, long value) {
+            int low = from;
+            int high = to;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sorted[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
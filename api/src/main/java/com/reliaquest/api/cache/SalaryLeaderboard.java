@@ -0,0 +1,213 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.SalaryRank;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Collector;
+
+/**
+ * Employees ordered by salary, highest first, with ties broken by id. It ranks rows of the snapshot's columns, is
+ * sorted once per loaded snapshot and carried across local writes by inserting or removing a single entry, so the
+ * highest salary is O(1), the top k is O(k) and a rank is a binary search.
+ */
+public final class SalaryLeaderboard {
+    private static final Comparator<Employee> ORDER = Comparator.comparingInt(Employee::salaryValue)
+            .reversed()
+            .thenComparing(Employee::id, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final EmployeeColumns columns;
+    private final int[] ranked;
+
+    private SalaryLeaderboard(EmployeeColumns columns, int[] ranked) {
+        this.columns = columns;
+        this.ranked = ranked;
+    }
+
+    /**
+     * @throws NumberFormatException if any employee's salary is not an integer
+     */
+    public static SalaryLeaderboard of(List<Employee> employees) throws NumberFormatException {
+        return of(EmployeeColumns.of(employees));
+    }
+
+    static SalaryLeaderboard of(EmployeeColumns columns) throws NumberFormatException {
+        int[] ranked = new int[columns.size()];
+        for (int row = 0; row < ranked.length; row++) {
+            requireValidSalary(columns, row);
+            ranked[row] = row;
+        }
+        EmployeeColumns.sortRows(ranked, (left, right) -> compare(columns, left, right));
+        return new SalaryLeaderboard(columns, ranked);
+    }
+
+    /**
+     * Collects the k highest paid employees in one pass, holding at most k of them, for rosters that are read once
+     * rather than kept.
+     *
+     * @throws NumberFormatException if any employee's salary is not an integer
+     */
+    public static Collector<Employee, ?, List<Employee>> topCollector(int k) {
+        return Collector.of(
+                () -> new PriorityQueue<>(ORDER.reversed()),
+                (heap, employee) -> offer(heap, employee, k),
+                (left, right) -> {
+                    right.forEach(employee -> offer(left, employee, k));
+                    return left;
+                },
+                heap -> heap.stream().sorted(ORDER).toList());
+    }
+
+    private static void offer(PriorityQueue<Employee> heap, Employee employee, int k) {
+        if (!employee.hasValidSalary()) {
+            throw employee.malformedSalary();
+        }
+        if (heap.size() < k) {
+            heap.add(employee);
+        } else if (k > 0 && ORDER.compare(employee, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(employee);
+        }
+    }
+
+    public int size() {
+        return ranked.length;
+    }
+
+    /**
+     * @return the highest paid employee, or null if there are none
+     */
+    public Employee highest() {
+        return ranked.length > 0 ? columns.row(ranked[0]) : null;
+    }
+
+    public List<Employee> top(int k) {
+        int count = Math.max(0, Math.min(k, ranked.length));
+        List<Employee> top = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            top.add(columns.row(ranked[i]));
+        }
+        return List.copyOf(top);
+    }
+
+    public SalaryRank rank(Employee employee) {
+        int salary = employee.salaryValue();
+        int above = firstIndex(salary, true);
+        int equal = firstIndex(salary, false) - above;
+        double percentile = 100.0 * (ranked.length - above - equal + equal / 2.0) / ranked.length;
+        return new SalaryRank(employee.id(), salary, above + 1, ranked.length, percentile);
+    }
+
+    /**
+     * @param patched these columns with one row appended
+     * @throws NumberFormatException if the new employee's salary is not an integer
+     */
+    SalaryLeaderboard withAppendedRow(EmployeeColumns patched) throws NumberFormatException {
+        int row = patched.size() - 1;
+        requireValidSalary(patched, row);
+        int low = 0;
+        int high = ranked.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(patched, ranked[mid], row) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int[] result = new int[ranked.length + 1];
+        System.arraycopy(ranked, 0, result, 0, low);
+        result[low] = row;
+        System.arraycopy(ranked, low, result, low + 1, ranked.length - low);
+        return new SalaryLeaderboard(patched, result);
+    }
+
+    /**
+     * @param patched these columns with the given row removed, so later rows have moved up by one
+     */
+    SalaryLeaderboard withoutRow(int row, EmployeeColumns patched) {
+        int[] result = new int[ranked.length - 1];
+        int out = 0;
+        for (int rankedRow : ranked) {
+            if (rankedRow != row) {
+                result[out++] = rankedRow > row ? rankedRow - 1 : rankedRow;
+            }
+        }
+        return new SalaryLeaderboard(patched, result);
+    }
+
+    /**
+     * Carries the ranking across a batch of writes in one pass: surviving rows keep their order under their new row
+     * numbers, and the appended rows are sorted among themselves and merged in.
+     *
+     * @param patched these columns without the removed rows, so later rows have moved up, and with any new rows
+     *     appended
+     * @throws NumberFormatException if a new employee's salary is not an integer
+     */
+    SalaryLeaderboard withRows(BitSet removed, EmployeeColumns patched) throws NumberFormatException {
+        int[] moved = new int[columns.size()];
+        int gone = 0;
+        for (int row = 0; row < moved.length; row++) {
+            if (removed.get(row)) {
+                moved[row] = -1;
+                gone++;
+            } else {
+                moved[row] = row - gone;
+            }
+        }
+        int[] kept = new int[ranked.length - gone];
+        int count = 0;
+        for (int rankedRow : ranked) {
+            if (moved[rankedRow] >= 0) {
+                kept[count++] = moved[rankedRow];
+            }
+        }
+        int[] added = new int[patched.size() - kept.length];
+        for (int i = 0; i < added.length; i++) {
+            added[i] = kept.length + i;
+            requireValidSalary(patched, added[i]);
+        }
+        EmployeeColumns.sortRows(added, (left, right) -> compare(patched, left, right));
+        int[] result = new int[kept.length + added.length];
+        int left = 0;
+        int right = 0;
+        for (int out = 0; out < result.length; out++) {
+            boolean takeKept = right == added.length
+                    || (left < kept.length && compare(patched, kept[left], added[right]) <= 0);
+            result[out] = takeKept ? kept[left++] : added[right++];
+        }
+        return new SalaryLeaderboard(patched, result);
+    }
+
+    /*
+     * First index whose salary is at most the given one (inclusive) or strictly below it; the ranking is descending.
+     */
+    private int firstIndex(int salary, boolean inclusive) {
+        int low = 0;
+        int high = ranked.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int candidate = columns.salary(ranked[mid]);
+            if (inclusive ? candidate > salary : candidate >= salary) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int compare(EmployeeColumns columns, int left, int right) {
+        int bySalary = Integer.compare(columns.salary(right), columns.salary(left));
+        return bySalary != 0 ? bySalary : columns.compareIds(left, right);
+    }
+
+    private static void requireValidSalary(EmployeeColumns columns, int row) {
+        if (columns.salary(row) == Employee.MALFORMED_SALARY) {
+            throw columns.row(row).malformedSalary();
+        }
+    }
+}
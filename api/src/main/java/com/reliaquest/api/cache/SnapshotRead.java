@@ -0,0 +1,14 @@
+package com.reliaquest.api.cache;
+
+import java.time.Duration;
+
+/**
+ * A snapshot as served to one caller: where it came from and how old it was at that moment.
+ */
+public record SnapshotRead(EmployeeSnapshot snapshot, Source source, Duration age) {
+    public enum Source {
+        UPSTREAM,
+        CACHE,
+        STALE
+    }
+}
@@ -0,0 +1,83 @@
+package com.reliaquest.api.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends a batch upstream in chunks of at most chunk-size items, with up to max-in-flight chunks outstanding at once, so
+ * a large batch costs a handful of upstream calls that overlap instead of one call per item. The caller blocks while
+ * the pipeline is full rather than queueing every chunk on the executor. A chunk whose call fails is answered by the
+ * failure function for its own items only, and results come back in input order whichever chunk finishes first.
+ */
+@Component
+public final class BatchPipeline {
+    private static final int DEFAULT_CHUNK_SIZE = 100;
+
+    private final int chunkSize;
+    private final int maxInFlight;
+
+    @Autowired
+    public BatchPipeline(
+            @Value("${employees.batch.chunk-size:100}") int chunkSize,
+            @Value("${employees.batch.max-in-flight:4}") int maxInFlight) {
+        if (chunkSize <= 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("Batch chunk size and max in flight must be positive");
+        }
+        this.chunkSize = chunkSize;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public static BatchPipeline sequential() {
+        return new BatchPipeline(DEFAULT_CHUNK_SIZE, 1);
+    }
+
+    /**
+     * @param call sends one chunk and returns one result per item, in the chunk's order
+     * @param onFailure the results for a chunk whose call threw, or that the executor rejected
+     * @return one result per item, in input order
+     */
+    public <I, R> List<R> run(
+            List<I> items,
+            Function<List<I>, List<R>> call,
+            BiFunction<List<I>, Throwable, List<R>> onFailure,
+            Executor executor) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        Semaphore slots = new Semaphore(maxInFlight);
+        List<CompletableFuture<List<R>>> chunks = new ArrayList<>((items.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            List<I> chunk = items.subList(from, Math.min(from + chunkSize, items.size()));
+            slots.acquireUninterruptibly();
+            CompletableFuture<List<R>> sent;
+            try {
+                sent = CompletableFuture.supplyAsync(() -> call.apply(chunk), executor);
+            } catch (RejectedExecutionException e) {
+                sent = CompletableFuture.failedFuture(e);
+            }
+            chunks.add(sent.handle((results, failure) -> {
+                slots.release();
+                return failure == null ? results : onFailure.apply(chunk, unwrap(failure));
+            }));
+        }
+        List<R> results = new ArrayList<>(items.size());
+        for (CompletableFuture<List<R>> chunk : chunks) {
+            results.addAll(chunk.join());
+        }
+        return results;
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+}
@@ -0,0 +1,106 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exceptions.ExternalApiRateLimitException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opens after a run of consecutive upstream failures (429s, server errors or I/O errors) and fails calls fast until
+ * the open duration, or a longer Retry-After, has passed. The first call after that is let through as a trial; its
+ * outcome closes the circuit again or reopens it.
+ */
+@Component
+public class CircuitBreaker {
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openUntil = Instant.MIN;
+    private boolean trialInFlight;
+
+    @Autowired
+    public CircuitBreaker(
+            @Value("${employees.circuit-breaker.failure-threshold:3}") int failureThreshold,
+            @Value("${employees.circuit-breaker.open-duration:30s}") Duration openDuration) {
+        this(failureThreshold, openDuration, Clock.systemUTC());
+    }
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    public static CircuitBreaker disabled() {
+        return new CircuitBreaker(Integer.MAX_VALUE, Duration.ZERO, Clock.systemUTC());
+    }
+
+    public synchronized void beforeCall() {
+        if (state == State.OPEN) {
+            if (clock.instant().isBefore(openUntil)) {
+                throw new ExternalApiRateLimitException("Upstream circuit open");
+            }
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                throw new ExternalApiRateLimitException("Upstream circuit open");
+            }
+            trialInFlight = true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            logger.debug("Upstream circuit closed");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    /**
+     * @param retryAfter the delay the server asked for, or null
+     */
+    public synchronized void onFailure(Duration retryAfter) {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            Duration duration =
+                    retryAfter != null && retryAfter.compareTo(openDuration) > 0 ? retryAfter : openDuration;
+            openUntil = clock.instant().plus(duration);
+            state = State.OPEN;
+            trialInFlight = false;
+            logger.debug("Upstream circuit open for {}", duration);
+        }
+    }
+
+    /*
+     * Releases a trial slot for a call that was never sent, e.g. because no rate limit permit was available.
+     */
+    public synchronized void onAbandoned() {
+        trialInFlight = false;
+    }
+
+    public synchronized State state() {
+        if (state == State.OPEN && !clock.instant().isBefore(openUntil)) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+}
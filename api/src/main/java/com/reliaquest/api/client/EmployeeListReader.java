@@ -0,0 +1,50 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.models.Employee;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads the upstream {@code {"data": [...]}} envelope with a streaming parser and hands each employee to a consumer as
+ * soon as it is bound, so neither the payload nor the full list has to be held unless the consumer keeps it.
+ */
+@Component
+public class EmployeeListReader {
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public EmployeeListReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * An empty body, or one without a data array, yields no employees.
+     */
+    public void read(InputStream body, Consumer<Employee> consumer) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && "data".equals(field)) {
+                    for (JsonToken element = parser.nextToken();
+                            element != null && element != JsonToken.END_ARRAY;
+                            element = parser.nextToken()) {
+                        if (element == JsonToken.START_OBJECT) {
+                            consumer.accept(objectMapper.readValue(parser, Employee.class));
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.random.RandomGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides whether and when a failed upstream call is retried. A 429 is retried for any operation because the server
+ * refuses it before doing any work, while server errors and I/O failures are only retried for reads. Delays use full
+ * jitter exponential backoff unless the server sent a Retry-After, and a call is given up on if that asks for longer
+ * than the max delay. Retries also draw from a shared budget that first attempts top up, so a failing upstream cannot
+ * turn every request into several.
+ */
+@Component
+public class RetryPolicy {
+    private static final double MAX_BUDGET = 10;
+
+    private final int maxReadAttempts;
+    private final int maxWriteAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final double budgetRatio;
+    private final RandomGenerator random;
+    private double budget = MAX_BUDGET;
+
+    @Autowired
+    public RetryPolicy(
+            @Value("${employees.retry.max-attempts.read:3}") int maxReadAttempts,
+            @Value("${employees.retry.max-attempts.write:2}") int maxWriteAttempts,
+            @Value("${employees.retry.base-delay:200ms}") Duration baseDelay,
+            @Value("${employees.retry.max-delay:2s}") Duration maxDelay,
+            @Value("${employees.retry.budget-ratio:0.2}") double budgetRatio) {
+        this(maxReadAttempts, maxWriteAttempts, baseDelay, maxDelay, budgetRatio, RandomGenerator.getDefault());
+    }
+
+    RetryPolicy(
+            int maxReadAttempts,
+            int maxWriteAttempts,
+            Duration baseDelay,
+            Duration maxDelay,
+            double budgetRatio,
+            RandomGenerator random) {
+        this.maxReadAttempts = maxReadAttempts;
+        this.maxWriteAttempts = maxWriteAttempts;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.budgetRatio = budgetRatio;
+        this.random = random;
+    }
+
+    public static RetryPolicy never() {
+        return new RetryPolicy(1, 1, Duration.ZERO, Duration.ZERO, 0, RandomGenerator.getDefault());
+    }
+
+    public synchronized void onFirstAttempt() {
+        budget = Math.min(MAX_BUDGET, budget + budgetRatio);
+    }
+
+    /**
+     * @param status the response status, or null when no response was received
+     * @param retryAfter the delay the server asked for, or null
+     * @return how long to wait before the next attempt, or null if the call should not be retried
+     */
+    public Duration nextDelay(
+            UpstreamOperation operation, int failedAttempts, HttpStatusCode status, Duration retryAfter) {
+        boolean write = operation.priority() == UpstreamRateLimiter.Priority.WRITE;
+        if (failedAttempts >= (write ? maxWriteAttempts : maxReadAttempts)) {
+            return null;
+        }
+        boolean rateLimited = status != null && HttpStatus.TOO_MANY_REQUESTS.value() == status.value();
+        boolean retryable = rateLimited || (!write && (status == null || status.is5xxServerError()));
+        if (!retryable) {
+            return null;
+        }
+        Duration delay;
+        if (retryAfter != null) {
+            if (retryAfter.compareTo(maxDelay) > 0) {
+                return null;
+            }
+            delay = retryAfter;
+        } else {
+            long ceiling = Math.min(maxDelay.toMillis(), baseDelay.toMillis() << Math.min(failedAttempts - 1, 20));
+            delay = Duration.ofMillis(ceiling > 0 ? random.nextLong(ceiling + 1) : 0);
+        }
+        return withdraw() ? delay : null;
+    }
+
+    private synchronized boolean withdraw() {
+        if (budget < 1) {
+            return false;
+        }
+        budget--;
+        return true;
+    }
+
+    public static Duration retryAfter(HttpHeaders headers, Instant now) {
+        String value = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                Instant at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)
+                        .toInstant();
+                return at.isAfter(now) ? Duration.between(now, at) : Duration.ZERO;
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.reliaquest.api.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key: the first caller runs the call and everyone who asks for that key while
+ * it is in flight waits for the same result or exception. Once the call completes the key is released, so later
+ * callers start a fresh call; nothing is cached.
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V run(K key, Supplier<V> call) {
+        CompletableFuture<V> promise = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            V result = call.get();
+            inFlight.remove(key, promise);
+            promise.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, promise);
+            promise.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
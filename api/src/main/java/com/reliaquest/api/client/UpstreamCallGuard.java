@@ -0,0 +1,100 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Wraps every call to the employee server so that it passes the circuit breaker and waits for a rate limit permit
+ * first, reports the outcome back to both, and retries failures the {@link RetryPolicy} allows. Any response other
+ * than a 429 means the server's limiter accepted the request, and only 429s, server errors and I/O errors count as
+ * failures for the circuit breaker.
+ */
+@Component
+public class UpstreamCallGuard {
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamCallGuard.class);
+
+    private final UpstreamRateLimiter rateLimiter;
+    private final RetryPolicy retryPolicy;
+    private final CircuitBreaker circuitBreaker;
+
+    @Autowired
+    public UpstreamCallGuard(UpstreamRateLimiter rateLimiter, RetryPolicy retryPolicy, CircuitBreaker circuitBreaker) {
+        this.rateLimiter = rateLimiter;
+        this.retryPolicy = retryPolicy;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public UpstreamCallGuard(UpstreamRateLimiter rateLimiter) {
+        this(rateLimiter, RetryPolicy.never(), CircuitBreaker.disabled());
+    }
+
+    public static UpstreamCallGuard unguarded() {
+        return new UpstreamCallGuard(UpstreamRateLimiter.unlimited());
+    }
+
+    public <T> T call(UpstreamOperation operation, Supplier<T> call) {
+        retryPolicy.onFirstAttempt();
+        for (int attempt = 1; ; attempt++) {
+            circuitBreaker.beforeCall();
+            UpstreamRateLimiter.Permit permit;
+            try {
+                permit = rateLimiter.acquire(operation.priority());
+            } catch (RuntimeException e) {
+                circuitBreaker.onAbandoned();
+                throw e;
+            }
+            RuntimeException failure;
+            Duration delay;
+            try {
+                T result = call.get();
+                rateLimiter.onSuccess(permit);
+                circuitBreaker.onSuccess();
+                return result;
+            } catch (HttpStatusCodeException e) {
+                Duration retryAfter = RetryPolicy.retryAfter(e.getResponseHeaders(), Instant.now());
+                if (HttpStatus.TOO_MANY_REQUESTS == e.getStatusCode()) {
+                    rateLimiter.onRateLimited(permit, retryAfter);
+                    circuitBreaker.onFailure(retryAfter);
+                } else {
+                    rateLimiter.onSuccess(permit);
+                    if (e.getStatusCode().is5xxServerError()) {
+                        circuitBreaker.onFailure(retryAfter);
+                    } else {
+                        circuitBreaker.onSuccess();
+                    }
+                }
+                failure = e;
+                delay = retryPolicy.nextDelay(operation, attempt, e.getStatusCode(), retryAfter);
+            } catch (ResourceAccessException e) {
+                rateLimiter.onSuccess(permit);
+                circuitBreaker.onFailure(null);
+                failure = e;
+                delay = retryPolicy.nextDelay(operation, attempt, null, null);
+            } catch (RuntimeException e) {
+                // not an upstream failure, e.g. a streaming consumer rejecting what it read
+                rateLimiter.onSuccess(permit);
+                circuitBreaker.onAbandoned();
+                throw e;
+            }
+            if (delay == null || circuitBreaker.state() == CircuitBreaker.State.OPEN) {
+                throw failure;
+            }
+            logger.debug(
+                    "Retrying {} in {} after attempt {} failed: {}", operation, delay, attempt, failure.getMessage());
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw failure;
+            }
+        }
+    }
+}
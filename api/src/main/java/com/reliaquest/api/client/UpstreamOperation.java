@@ -0,0 +1,21 @@
+package com.reliaquest.api.client;
+
+public enum UpstreamOperation {
+    GET_ALL_EMPLOYEES(UpstreamRateLimiter.Priority.READ),
+    GET_EMPLOYEE_BY_ID(UpstreamRateLimiter.Priority.READ),
+    GET_EMPLOYEE_CHANGES(UpstreamRateLimiter.Priority.READ),
+    CREATE_EMPLOYEE(UpstreamRateLimiter.Priority.WRITE),
+    DELETE_EMPLOYEE(UpstreamRateLimiter.Priority.WRITE),
+    CREATE_EMPLOYEES(UpstreamRateLimiter.Priority.WRITE),
+    DELETE_EMPLOYEES(UpstreamRateLimiter.Priority.WRITE);
+
+    private final UpstreamRateLimiter.Priority priority;
+
+    UpstreamOperation(UpstreamRateLimiter.Priority priority) {
+        this.priority = priority;
+    }
+
+    public UpstreamRateLimiter.Priority priority() {
+        return priority;
+    }
+}
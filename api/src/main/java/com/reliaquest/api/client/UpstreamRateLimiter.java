@@ -0,0 +1,230 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exceptions.ExternalApiRateLimitException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Client side limiter for calls to the employee server. The server lets a fixed number of requests through and then
+ * refuses everything until a lockout has passed since the last request it accepted, so this limiter is a token bucket
+ * that refills its whole budget one window after the last permit was spent. Both the budget and the window are learned
+ * from observed 429s: a refusal part way through a window shrinks the budget to what was accepted, a refusal straight
+ * after a refill lengthens the window, and until the budget has been pinned down that way, a window that used its full
+ * budget cleanly probes one more permit.
+ *
+ * <p>Callers queue for permits in priority order, so writes are served before reads. A caller that would have to wait
+ * longer than the configured max wait fails fast with {@link ExternalApiRateLimitException} rather than holding its
+ * thread through the lockout.
+ */
+@Component
+public class UpstreamRateLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamRateLimiter.class);
+    private static final Duration MIN_PROBE_INTERVAL = Duration.ofSeconds(1);
+
+    public enum Priority {
+        WRITE,
+        READ
+    }
+
+    public record Permit(Instant issuedAt, long window) {}
+
+    private record Ticket(Priority priority, long sequence) implements Comparable<Ticket> {
+        @Override
+        public int compareTo(Ticket other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private final boolean enabled;
+    private final int maxBudget;
+    private final Duration maxWindow;
+    private final Duration maxWait;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final PriorityQueue<Ticket> waiting = new PriorityQueue<>();
+    private long tickets;
+
+    private int budget;
+    private boolean budgetLearned;
+    private Duration window;
+    private long windowNumber;
+    private int issued;
+    private int succeeded;
+    private boolean rateLimitedInWindow;
+    private Instant lastSuccessIssuedAt;
+    private Instant blockedUntil;
+
+    @Autowired
+    public UpstreamRateLimiter(
+            @Value("${employees.rate-limit.enabled:true}") boolean enabled,
+            @Value("${employees.rate-limit.initial-budget:5}") int initialBudget,
+            @Value("${employees.rate-limit.max-budget:50}") int maxBudget,
+            @Value("${employees.rate-limit.initial-window:30s}") Duration initialWindow,
+            @Value("${employees.rate-limit.max-window:120s}") Duration maxWindow,
+            @Value("${employees.rate-limit.max-wait:2s}") Duration maxWait) {
+        this(enabled, initialBudget, maxBudget, initialWindow, maxWindow, maxWait, Clock.systemUTC());
+    }
+
+    UpstreamRateLimiter(
+            boolean enabled,
+            int initialBudget,
+            int maxBudget,
+            Duration initialWindow,
+            Duration maxWindow,
+            Duration maxWait,
+            Clock clock) {
+        this.enabled = enabled;
+        this.budget = Math.max(1, initialBudget);
+        this.maxBudget = Math.max(budget, maxBudget);
+        this.window = initialWindow;
+        this.maxWindow = maxWindow;
+        this.maxWait = maxWait;
+        this.clock = clock;
+    }
+
+    public static UpstreamRateLimiter unlimited() {
+        return new UpstreamRateLimiter(false, 1, 1, Duration.ZERO, Duration.ZERO, Duration.ZERO, Clock.systemUTC());
+    }
+
+    public Permit acquire(Priority priority) {
+        if (!enabled) {
+            return new Permit(Instant.EPOCH, 0);
+        }
+        lock.lock();
+        try {
+            Ticket ticket = new Ticket(priority, tickets++);
+            waiting.add(ticket);
+            try {
+                // measured on the same clock as the windows, so a caller's wait and the refill it waits for agree
+                Instant deadline = clock.instant().plus(maxWait);
+                while (true) {
+                    Instant now = clock.instant();
+                    refill(now);
+                    if (blockedUntil == null && waiting.peek() == ticket) {
+                        waiting.poll();
+                        issued++;
+                        if (issued >= budget) {
+                            blockedUntil = now.plus(window);
+                        }
+                        changed.signalAll();
+                        return new Permit(now, windowNumber);
+                    }
+                    long remaining = Duration.between(now, deadline).toNanos();
+                    long untilRefill = blockedUntil == null
+                            ? remaining
+                            : Duration.between(now, blockedUntil).toNanos();
+                    if (remaining <= 0 || untilRefill > remaining) {
+                        throw new ExternalApiRateLimitException("Upstream request budget exhausted");
+                    }
+                    changed.awaitNanos(Math.max(untilRefill, TimeUnit.MILLISECONDS.toNanos(1)));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ExternalApiRateLimitException("Interrupted waiting for upstream budget");
+            } finally {
+                if (waiting.remove(ticket)) {
+                    changed.signalAll();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess(Permit permit) {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (permit.window() == windowNumber) {
+                succeeded++;
+            }
+            if (lastSuccessIssuedAt == null || permit.issuedAt().isAfter(lastSuccessIssuedAt)) {
+                lastSuccessIssuedAt = permit.issuedAt();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onRateLimited(Permit permit) {
+        onRateLimited(permit, null);
+    }
+
+    /**
+     * @param retryAfter the delay the server asked for, or null; permits are held back for at least that long
+     */
+    public void onRateLimited(Permit permit, Duration retryAfter) {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            Instant now = clock.instant();
+            if (permit.window() == windowNumber && !rateLimitedInWindow) {
+                rateLimitedInWindow = true;
+                if (succeeded == 0) {
+                    Duration longer = window.plus(window.dividedBy(2));
+                    window = longer.compareTo(maxWindow) > 0 ? maxWindow : longer;
+                } else {
+                    budget = Math.min(budget, succeeded);
+                    budgetLearned = true;
+                }
+                logger.debug("Upstream rate limited; budget is now {} per {}", budget, window);
+            }
+            Instant lockoutEnds = (lastSuccessIssuedAt != null ? lastSuccessIssuedAt : now).plus(window);
+            Duration probeDelay = retryAfter != null && retryAfter.compareTo(MIN_PROBE_INTERVAL) > 0
+                    ? retryAfter
+                    : MIN_PROBE_INTERVAL;
+            Instant earliestProbe = now.plus(probeDelay);
+            blockedUntil = lockoutEnds.isAfter(earliestProbe) ? lockoutEnds : earliestProbe;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int budget() {
+        lock.lock();
+        try {
+            return budget;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Duration window() {
+        lock.lock();
+        try {
+            return window;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill(Instant now) {
+        if (blockedUntil == null || now.isBefore(blockedUntil)) {
+            return;
+        }
+        if (!budgetLearned && !rateLimitedInWindow && issued >= budget && budget < maxBudget) {
+            budget++;
+        }
+        windowNumber++;
+        issued = 0;
+        succeeded = 0;
+        rateLimitedInWindow = false;
+        blockedUntil = null;
+    }
+}
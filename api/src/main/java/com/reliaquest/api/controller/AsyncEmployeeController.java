@@ -0,0 +1,157 @@
+package com.reliaquest.api.controller;
+
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exceptions.EmployeeValidationError;
+import com.reliaquest.api.exceptions.ExternalApiRateLimitException;
+import com.reliaquest.api.models.CreateEmployee;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.services.EmployeeService;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Same contract as {@link EmployeeController} under {@code /async}, but every handler returns a future so the servlet
+ * thread goes back to the pool while the upstream call is in flight.
+ */
+@Controller
+@RequestMapping("/async")
+public class AsyncEmployeeController {
+    public static final Logger logger = LoggerFactory.getLogger(AsyncEmployeeController.class);
+    private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public AsyncEmployeeController(EmployeeService employeeService, ObjectMapper objectMapper) {
+        this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping()
+    public CompletableFuture<ResponseEntity<List<Employee>>> getAllEmployees() {
+        return handle(
+                employeeService
+                        .getEmployeeSnapshotAsync()
+                        .thenApply(read -> ResponseEntity.ok()
+                                .headers(EmployeeController.snapshotHeaders(read))
+                                .body(read.snapshot().employees())),
+                "getting all employees");
+    }
+
+    @GetMapping("/search/{searchString}")
+    public CompletableFuture<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(
+            @PathVariable String searchString) {
+        return handle(
+                employeeService.getEmployeesByNameSearchAsync(searchString).thenApply(ResponseEntity::ok),
+                "searching employees");
+    }
+
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
+        return handle(
+                employeeService
+                        .getEmployeeByIdAsync(id)
+                        .thenApply(employee -> employee.map(ResponseEntity::ok)
+                                .orElseGet(() -> ResponseEntity.notFound().build())),
+                "getting employee by id");
+    }
+
+    @GetMapping("/highestSalary")
+    public CompletableFuture<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        return handle(
+                employeeService
+                        .getTopEarnersAsync(1)
+                        .thenApply(top -> ResponseEntity.ok(top.get(0).salaryValue())),
+                "getting highest salary of employees");
+    }
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public CompletableFuture<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        return handle(
+                employeeService
+                        .getTopEarnersAsync(10)
+                        .thenApply(top -> ResponseEntity.ok(top.stream().map(Employee::name).toList())),
+                "getting top ten highest earning employee names");
+    }
+
+    @PostMapping()
+    public CompletableFuture<ResponseEntity<Employee>> createEmployee(@RequestBody Object employeeInput) {
+        CreateEmployee createEmployee;
+        try {
+            createEmployee = objectMapper.convertValue(employeeInput, CreateEmployee.class);
+            employeeService.validateCreateEmployee(createEmployee);
+        } catch (EmployeeValidationError | IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        // the current request is only bound to this thread, so capture it before the call completes elsewhere
+        UriComponentsBuilder requestUri = ServletUriComponentsBuilder.fromCurrentRequest();
+        return handle(
+                employeeService.createEmployeeAsync(createEmployee).thenApply(employee -> {
+                    URI location = requestUri
+                            .path("/{id}")
+                            .buildAndExpand(employee.id())
+                            .toUri();
+                    return ResponseEntity.created(location).build();
+                }),
+                "creating employee");
+    }
+
+    @DeleteMapping("/{id}")
+    public CompletableFuture<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        return handle(
+                employeeService.getEmployeeByIdAsync(id).thenCompose(found -> {
+                    Employee employee = found.orElse(null);
+                    if (employee == null) {
+                        return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
+                    }
+                    if (employee.name().isBlank()) {
+                        return CompletableFuture.completedFuture(
+                                ResponseEntity.badRequest().body("Employee name is blank"));
+                    }
+                    return employeeService
+                            .deleteEmployeeByNameAsync(employee.name())
+                            .thenApply(deleted -> deleted
+                                    ? ResponseEntity.ok(employee.name())
+                                    : ResponseEntity.internalServerError().build());
+                }),
+                "deleting employee by id");
+    }
+
+    private static <T> CompletableFuture<ResponseEntity<T>> handle(
+            CompletableFuture<ResponseEntity<T>> response, String action) {
+        return response.exceptionally(failure -> {
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause()
+                    : failure;
+            if (cause instanceof ExternalApiRateLimitException) {
+                logger.debug(cause.getMessage());
+                return ResponseEntity.status(TOO_MANY_REQUESTS).build();
+            }
+            if (cause instanceof RejectedExecutionException) {
+                logger.debug("Upstream executor saturated while {}", action);
+                return ResponseEntity.status(SERVICE_UNAVAILABLE).build();
+            }
+            logger.debug("Error {}", action, cause);
+            return ResponseEntity.status(INTERNAL_SERVER_ERROR).build();
+        });
+    }
+}
@@ -4,10 +4,15 @@ import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.reliaquest.api.cache.SnapshotRead;
 import com.reliaquest.api.exceptions.EmployeeValidationError;
 import com.reliaquest.api.exceptions.ExternalApiRateLimitException;
 import com.reliaquest.api.models.CreateEmployee;
 import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeePage;
+import com.reliaquest.api.models.RosterStats;
+import com.reliaquest.api.models.SalaryRank;
 import com.reliaquest.api.services.EmployeeService;
 import java.net.URI;
 import java.util.List;
@@ -15,14 +20,23 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @Controller
 @SuppressWarnings({"rawtypes", "Necessary to match interface"})
 public class EmployeeController implements IEmployeeController {
     public static final Logger logger = LoggerFactory.getLogger(EmployeeController.class);
+    public static final String SOURCE_HEADER = "X-Employee-Source";
+    static final int MAX_PAGE_SIZE = 1000;
+    static final int MAX_HISTOGRAM_BUCKETS = 100;
     private final EmployeeService employeeService;
     private final ObjectMapper objectMapper;
 
@@ -35,7 +49,8 @@ public class EmployeeController implements IEmployeeController {
     @Override
     public ResponseEntity<List> getAllEmployees() {
         try {
-            return ResponseEntity.ok(employeeService.getAllEmployees());
+            SnapshotRead read = employeeService.getEmployeeSnapshot();
+            return ResponseEntity.ok().headers(snapshotHeaders(read)).body(read.snapshot().employees());
         } catch (ExternalApiRateLimitException e) {
             logger.debug(e.getMessage());
             return ResponseEntity.status(TOO_MANY_REQUESTS).build();
@@ -45,6 +60,54 @@ public class EmployeeController implements IEmployeeController {
         }
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<EmployeePage> getEmployeePage(
+            @RequestParam(required = false) String after, @RequestParam(defaultValue = "100") int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(employeeService.getEmployeePage(after, limit));
+        } catch (ExternalApiRateLimitException e) {
+            logger.debug(e.getMessage());
+            return ResponseEntity.status(TOO_MANY_REQUESTS).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.debug("Error getting employee page", e);
+            return ResponseEntity.status(INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Writes the roster as newline-delimited JSON, one employee per line, straight to the response rather than
+     * building the whole array first.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEmployees() {
+        try {
+            SnapshotRead read = employeeService.getEmployeeSnapshot();
+            List<Employee> employees = read.snapshot().employees();
+            ObjectWriter writer = objectMapper.writerFor(Employee.class);
+            StreamingResponseBody body = out -> {
+                for (Employee employee : employees) {
+                    out.write(writer.writeValueAsBytes(employee));
+                    out.write('\n');
+                }
+            };
+            return ResponseEntity.ok()
+                    .headers(snapshotHeaders(read))
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(body);
+        } catch (ExternalApiRateLimitException e) {
+            logger.debug(e.getMessage());
+            return ResponseEntity.status(TOO_MANY_REQUESTS).build();
+        } catch (Exception e) {
+            logger.debug("Error streaming employees", e);
+            return ResponseEntity.status(INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @Override
     public ResponseEntity<List> getEmployeesByNameSearch(String searchString) {
         try {
@@ -79,9 +142,7 @@ public class EmployeeController implements IEmployeeController {
     @Override
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
         try {
-            List<Employee> employees = employeeService.getAllEmployees();
-            List<Employee> highestPaidEmployees = employeeService.getNHighestSalaries(1, employees);
-            int highestSalary = Integer.parseInt(highestPaidEmployees.get(0).salary());
+            int highestSalary = employeeService.getTopEarners(1).get(0).salaryValue();
             return ResponseEntity.ok(highestSalary);
         } catch (ExternalApiRateLimitException e) {
             logger.debug(e.getMessage());
@@ -95,10 +156,8 @@ public class EmployeeController implements IEmployeeController {
     @Override
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
         try {
-            List<Employee> employees = employeeService.getAllEmployees();
-            List<Employee> highestPaidEmployees = employeeService.getNHighestSalaries(10, employees);
             List<String> names =
-                    highestPaidEmployees.stream().map(Employee::name).toList();
+                    employeeService.getTopEarners(10).stream().map(Employee::name).toList();
             return ResponseEntity.ok(names);
         } catch (ExternalApiRateLimitException e) {
             logger.debug(e.getMessage());
@@ -109,6 +168,51 @@ public class EmployeeController implements IEmployeeController {
         }
     }
 
+    @GetMapping("/topEarners")
+    public ResponseEntity<List<Employee>> getTopEarners(@RequestParam(defaultValue = "10") int limit) {
+        if (limit <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(employeeService.getTopEarners(limit));
+        } catch (ExternalApiRateLimitException e) {
+            logger.debug(e.getMessage());
+            return ResponseEntity.status(TOO_MANY_REQUESTS).build();
+        } catch (Exception e) {
+            logger.debug("Error getting top earners", e);
+            return ResponseEntity.status(INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/{id}/salaryRank")
+    public ResponseEntity<SalaryRank> getSalaryRank(@PathVariable String id) {
+        try {
+            return ResponseEntity.of(employeeService.getSalaryRank(id));
+        } catch (ExternalApiRateLimitException e) {
+            logger.debug(e.getMessage());
+            return ResponseEntity.status(TOO_MANY_REQUESTS).build();
+        } catch (Exception e) {
+            logger.debug("Error getting salary rank", e);
+            return ResponseEntity.status(INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<RosterStats> getRosterStats(@RequestParam(defaultValue = "10") int buckets) {
+        if (buckets <= 0 || buckets > MAX_HISTOGRAM_BUCKETS) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(employeeService.getRosterStats(buckets));
+        } catch (ExternalApiRateLimitException e) {
+            logger.debug(e.getMessage());
+            return ResponseEntity.status(TOO_MANY_REQUESTS).build();
+        } catch (Exception e) {
+            logger.debug("Error getting roster stats", e);
+            return ResponseEntity.status(INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @Override
     public ResponseEntity createEmployee(Object employeeInput) {
         try {
@@ -156,4 +260,15 @@ public class EmployeeController implements IEmployeeController {
             return ResponseEntity.status(INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    /*
+     * Age is the standard HTTP header in whole seconds; the source says whether the roster came straight from the
+     * upstream, from a fresh cached snapshot, or from a stale one.
+     */
+    static HttpHeaders snapshotHeaders(SnapshotRead read) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.AGE, Long.toString(read.age().toSeconds()));
+        headers.set(SOURCE_HEADER, read.source().name().toLowerCase());
+        return headers;
+    }
 }
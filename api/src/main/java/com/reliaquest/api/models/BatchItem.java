@@ -0,0 +1,23 @@
+package com.reliaquest.api.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * The outcome of one item of a batch write: its data, or the error that item failed with.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItem<T>(T data, String error) {
+    public static <T> BatchItem<T> ok(T data) {
+        return new BatchItem<>(data, null);
+    }
+
+    public static <T> BatchItem<T> failed(String error) {
+        return new BatchItem<>(null, error);
+    }
+
+    @JsonIgnore
+    public boolean succeeded() {
+        return error == null;
+    }
+}
@@ -0,0 +1,5 @@
+package com.reliaquest.api.models;
+
+import java.util.List;
+
+public record BatchResponse<T>(List<BatchItem<T>> data) {}
@@ -1,12 +1,75 @@
 package com.reliaquest.api.models;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.UUID;
 
+/**
+ * @param salaryValue the salary decoded from the string, or {@link #MALFORMED_SALARY} if it is not an integer above
+ *     {@code Integer.MIN_VALUE}; the string stays the wire format. This constructor trusts the value as given: callers
+ *     that already hold it, like the roster columns, pass it in to skip the decode. Everything else, including
+ *     deserialization, goes through the six-argument constructor, which decodes the string once.
+ */
 public record Employee(
         UUID id,
         @JsonProperty("employee_name") String name,
         @JsonProperty("employee_salary") String salary,
         @JsonProperty("employee_age") Integer employeeAge,
         @JsonProperty("employee_title") String title,
-        @JsonProperty("employee_email") String email) {}
+        @JsonProperty("employee_email") String email,
+        @JsonIgnore int salaryValue) {
+    /**
+     * Marks a salary that is not an integer. The marker is taken out of the accepted range, so a salary of
+     * {@code -2147483648} is rejected as malformed rather than read as the marker.
+     */
+    public static final int MALFORMED_SALARY = Integer.MIN_VALUE;
+
+    @JsonCreator
+    public Employee(
+            @JsonProperty("id") UUID id,
+            @JsonProperty("employee_name") String name,
+            @JsonProperty("employee_salary") String salary,
+            @JsonProperty("employee_age") Integer employeeAge,
+            @JsonProperty("employee_title") String title,
+            @JsonProperty("employee_email") String email) {
+        this(id, name, salary, employeeAge, title, email, parseSalary(salary));
+    }
+
+    @JsonIgnore
+    public boolean hasValidSalary() {
+        return salaryValue != MALFORMED_SALARY;
+    }
+
+    /**
+     * @return the error to raise for a salary {@link #hasValidSalary()} rejects
+     */
+    public NumberFormatException malformedSalary() {
+        return new NumberFormatException("Malformed salary \"" + salary + "\" for employee " + id
+                + "; salaries are integers from " + (MALFORMED_SALARY + 1) + " to " + Integer.MAX_VALUE);
+    }
+
+    /*
+     * Accepts what Integer.parseInt accepts except MALFORMED_SALARY itself, and answers a malformed salary without
+     * throwing.
+     */
+    private static int parseSalary(String salary) {
+        if (salary == null || salary.isEmpty()) {
+            return MALFORMED_SALARY;
+        }
+        char sign = salary.charAt(0);
+        int start = sign == '-' || sign == '+' ? 1 : 0;
+        if (start == salary.length()) {
+            return MALFORMED_SALARY;
+        }
+        long value = 0;
+        for (int i = start; i < salary.length(); i++) {
+            int digit = Character.digit(salary.charAt(i), 10);
+            value = value * 10 + digit;
+            if (digit < 0 || value > Integer.MAX_VALUE) {
+                return MALFORMED_SALARY;
+            }
+        }
+        return (int) (sign == '-' ? -value : value);
+    }
+}
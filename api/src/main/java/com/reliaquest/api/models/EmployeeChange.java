@@ -0,0 +1,13 @@
+package com.reliaquest.api.models;
+
+/**
+ * One write to the upstream roster, as replayed by its change feed.
+ *
+ * @param version the upstream roster version this write produced
+ */
+public record EmployeeChange(long version, Type type, Employee employee) {
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -0,0 +1,9 @@
+package com.reliaquest.api.models;
+
+import java.util.List;
+
+/**
+ * @param epoch identifies the upstream run the versions belong to
+ * @param version the upstream roster version after the last of the changes
+ */
+public record EmployeeChanges(String epoch, long version, List<EmployeeChange> changes) {}
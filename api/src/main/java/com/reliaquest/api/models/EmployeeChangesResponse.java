@@ -0,0 +1,3 @@
+package com.reliaquest.api.models;
+
+public record EmployeeChangesResponse(EmployeeChanges data) {}
@@ -0,0 +1,8 @@
+package com.reliaquest.api.models;
+
+import java.util.List;
+
+/**
+ * @param next cursor to pass as {@code after} for the following page, or null on the last page
+ */
+public record EmployeePage(List<Employee> data, String next) {}
@@ -0,0 +1,21 @@
+package com.reliaquest.api.models;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregates of one numeric employee field. Employees whose value is missing or malformed are left out of every
+ * figure, and min, max and mean are null when none remain.
+ *
+ * @param percentiles nearest-rank percentiles keyed {@code p50}, {@code p90} and so on
+ * @param histogram as many buckets as requested from min to max, with widths differing by at most one, or one per
+ *     value if the range holds fewer values; empty buckets are included
+ */
+public record FieldStats(
+        int count,
+        long sum,
+        Double mean,
+        Integer min,
+        Integer max,
+        Map<String, Integer> percentiles,
+        List<HistogramBucket> histogram) {}
@@ -0,0 +1,6 @@
+package com.reliaquest.api.models;
+
+/**
+ * @param title the title the group covers, or null for employees without a title and for the whole roster
+ */
+public record GroupStats(String title, int headcount, FieldStats salary, FieldStats age) {}
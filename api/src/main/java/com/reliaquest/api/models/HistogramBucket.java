@@ -0,0 +1,7 @@
+package com.reliaquest.api.models;
+
+/**
+ * @param from lowest value in the bucket
+ * @param to lowest value of the next bucket
+ */
+public record HistogramBucket(int from, int to, int count) {}
@@ -0,0 +1,8 @@
+package com.reliaquest.api.models;
+
+import java.util.List;
+
+/**
+ * @param byTitle one group per title in title order, followed by employees without a title if there are any
+ */
+public record RosterStats(GroupStats all, List<GroupStats> byTitle) {}
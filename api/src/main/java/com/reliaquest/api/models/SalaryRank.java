@@ -0,0 +1,9 @@
+package com.reliaquest.api.models;
+
+import java.util.UUID;
+
+/**
+ * @param rank 1 for the highest salary; employees on the same salary share a rank
+ * @param percentile share of employees earning less, counting those on the same salary as half
+ */
+public record SalaryRank(UUID id, int salary, int rank, int total, double percentile) {}
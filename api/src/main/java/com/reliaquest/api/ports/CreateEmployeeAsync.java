@@ -0,0 +1,8 @@
+package com.reliaquest.api.ports;
+
+import com.reliaquest.api.models.Employee;
+import java.util.concurrent.CompletableFuture;
+
+public interface CreateEmployeeAsync {
+    CompletableFuture<Employee> createEmployeeAsync(com.reliaquest.api.models.CreateEmployee createEmployee);
+}
@@ -0,0 +1,9 @@
+package com.reliaquest.api.ports;
+
+import com.reliaquest.api.models.BatchItem;
+import com.reliaquest.api.models.Employee;
+import java.util.List;
+
+public interface CreateEmployees {
+    List<BatchItem<Employee>> createEmployees(List<com.reliaquest.api.models.CreateEmployee> createEmployees);
+}
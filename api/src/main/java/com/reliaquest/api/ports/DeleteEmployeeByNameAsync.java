@@ -0,0 +1,7 @@
+package com.reliaquest.api.ports;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface DeleteEmployeeByNameAsync {
+    CompletableFuture<Boolean> deleteEmployeeByNameAsync(String name);
+}
@@ -0,0 +1,8 @@
+package com.reliaquest.api.ports;
+
+import com.reliaquest.api.models.BatchItem;
+import java.util.List;
+
+public interface DeleteEmployeesByName {
+    List<BatchItem<Boolean>> deleteEmployeesByName(List<String> names);
+}
@@ -0,0 +1,9 @@
+package com.reliaquest.api.ports;
+
+import com.reliaquest.api.models.Employee;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface GetAllEmployeesAsync {
+    CompletableFuture<List<Employee>> getAllEmployeesAsync();
+}
@@ -0,0 +1,9 @@
+package com.reliaquest.api.ports;
+
+import com.reliaquest.api.models.Employee;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public interface GetEmployeeByIdAsync {
+    CompletableFuture<Optional<Employee>> getEmployeeByIdAsync(String employeeId);
+}
@@ -0,0 +1,7 @@
+package com.reliaquest.api.ports;
+
+import com.reliaquest.api.models.EmployeePage;
+
+public interface GetEmployeePage {
+    EmployeePage getEmployeePage(String after, int limit);
+}
@@ -0,0 +1,7 @@
+package com.reliaquest.api.ports;
+
+import com.reliaquest.api.models.RosterStats;
+
+public interface GetRosterStats {
+    RosterStats getRosterStats(int buckets);
+}
@@ -0,0 +1,8 @@
+package com.reliaquest.api.ports;
+
+import com.reliaquest.api.models.SalaryRank;
+import java.util.Optional;
+
+public interface GetSalaryRank {
+    Optional<SalaryRank> getSalaryRank(String employeeId);
+}
@@ -0,0 +1,8 @@
+package com.reliaquest.api.ports;
+
+import com.reliaquest.api.models.Employee;
+import java.util.List;
+
+public interface GetTopEarners {
+    List<Employee> getTopEarners(int k);
+}
@@ -1,45 +1,260 @@
 package com.reliaquest.api.services;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.ChangeCursor;
+import com.reliaquest.api.cache.EmployeeIdCache;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.ParallelScan;
+import com.reliaquest.api.cache.SalaryLeaderboard;
+import com.reliaquest.api.cache.SnapshotRead;
+import com.reliaquest.api.client.BatchPipeline;
+import com.reliaquest.api.client.EmployeeListReader;
+import com.reliaquest.api.client.SingleFlight;
+import com.reliaquest.api.client.UpstreamCallGuard;
+import com.reliaquest.api.client.UpstreamOperation;
 import com.reliaquest.api.exceptions.EmployeeValidationError;
 import com.reliaquest.api.exceptions.ExternalApiException;
 import com.reliaquest.api.exceptions.ExternalApiRateLimitException;
+import com.reliaquest.api.models.BatchItem;
+import com.reliaquest.api.models.BatchResponse;
 import com.reliaquest.api.models.Employee;
-import com.reliaquest.api.models.EmployeeListResponse;
+import com.reliaquest.api.models.EmployeeChanges;
+import com.reliaquest.api.models.EmployeeChangesResponse;
+import com.reliaquest.api.models.EmployeePage;
 import com.reliaquest.api.models.EmployeeResponse;
+import com.reliaquest.api.models.RosterStats;
+import com.reliaquest.api.models.SalaryRank;
 import com.reliaquest.api.ports.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 @Service
 public class EmployeeService
         implements CreateEmployee,
+                CreateEmployeeAsync,
+                CreateEmployees,
                 DeleteEmployeeByName,
+                DeleteEmployeeByNameAsync,
+                DeleteEmployeesByName,
                 GetAllEmployees,
+                GetAllEmployeesAsync,
                 GetEmployeesByNameSearch,
+                GetEmployeesByNameSearchAsync,
                 GetEmployeeById,
-                GetNHighestSalaries {
+                GetEmployeeByIdAsync,
+                GetEmployeePage,
+                GetNHighestSalaries,
+                GetRosterStats,
+                GetSalaryRank,
+                GetTopEarners,
+                GetTopEarnersAsync {
+    private static final String ROSTER_EPOCH_HEADER = "X-Roster-Epoch";
+    private static final String ROSTER_VERSION_HEADER = "X-Roster-Version";
+
     private final String employeesEndpoint;
     private final RestTemplate restTemplate;
+    private final EmployeeSnapshotCache snapshotCache;
+    private final EmployeeIdCache idCache;
+    private final UpstreamCallGuard upstream;
+    private final Executor upstreamExecutor;
+    private final EmployeeListReader employeeListReader;
+    private final ParallelScan parallelScan;
+    private final BatchPipeline batchPipeline;
+    private final SingleFlight<String, EmployeeSnapshot> listReads = new SingleFlight<>();
+    private final SingleFlight<String, ResponseEntity<EmployeeResponse>> employeeReads = new SingleFlight<>();
+
+    public EmployeeService(String employeesEndpoint, RestTemplate restTemplate) {
+        this(
+                employeesEndpoint,
+                restTemplate,
+                new EmployeeListReader(new ObjectMapper()),
+                EmployeeSnapshotCache.disabled(),
+                EmployeeIdCache.disabled(),
+                UpstreamCallGuard.unguarded(),
+                Runnable::run,
+                ParallelScan.sequential(),
+                BatchPipeline.sequential());
+    }
 
-    public EmployeeService(@Value("${endpoints.employees}") String employeesEndpoint, RestTemplate restTemplate) {
+    @Autowired
+    public EmployeeService(
+            @Value("${endpoints.employees}") String employeesEndpoint,
+            RestTemplate restTemplate,
+            EmployeeListReader employeeListReader,
+            EmployeeSnapshotCache snapshotCache,
+            EmployeeIdCache idCache,
+            UpstreamCallGuard upstream,
+            @Qualifier("upstreamExecutor") Executor upstreamExecutor,
+            ParallelScan parallelScan,
+            BatchPipeline batchPipeline) {
         this.employeesEndpoint = employeesEndpoint;
         this.restTemplate = restTemplate;
+        this.employeeListReader = employeeListReader;
+        this.snapshotCache = snapshotCache;
+        this.idCache = idCache;
+        this.upstream = upstream;
+        this.upstreamExecutor = upstreamExecutor;
+        this.parallelScan = parallelScan;
+        this.batchPipeline = batchPipeline;
     }
 
     @Override
     public List<Employee> getAllEmployees() {
+        return snapshotCache.get(this::fetchAllEmployees).employees();
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> getAllEmployeesAsync() {
+        return snapshotCache.getAsync(this::fetchAllEmployees, upstreamExecutor).thenApply(EmployeeSnapshot::employees);
+    }
+
+    /**
+     * @return the roster along with where it was served from and how old it is, which may be past its ttl when stale
+     * serving is enabled or the upstream is rate limiting
+     */
+    public SnapshotRead getEmployeeSnapshot() {
+        return snapshotCache.read(this::fetchAllEmployees);
+    }
+
+    public CompletableFuture<SnapshotRead> getEmployeeSnapshotAsync() {
+        return snapshotCache.readAsync(this::fetchAllEmployees, upstreamExecutor);
+    }
+
+    /**
+     * @param after the {@link EmployeePage#next()} cursor of the previous page, or null for the first page
+     * @throws IllegalArgumentException if the limit is not positive or the cursor is not an employee id
+     */
+    @Override
+    public EmployeePage getEmployeePage(String after, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page limit must be positive");
+        }
+        UUID cursor = after != null ? UUID.fromString(after) : null;
+        List<Employee> page = snapshotCache.get(this::fetchAllEmployees).pageAfter(cursor, limit + 1);
+        if (page.size() <= limit) {
+            return new EmployeePage(page, null);
+        }
+        List<Employee> data = page.subList(0, limit);
+        return new EmployeePage(data, data.get(limit - 1).id().toString());
+    }
+
+    private EmployeeSnapshot fetchAllEmployees(EmployeeSnapshot cached, Instant loadedAt) {
+        return listReads.run(employeesEndpoint, () -> readEmployeeSnapshot(cached, loadedAt));
+    }
+
+    /**
+     * Catches the cached snapshot up through the upstream change feed when it has a cursor. Otherwise, or when the feed
+     * cannot replay from there, reads the full list and sends the cached snapshot's ETag as If-None-Match, so an
+     * unchanged roster comes back as an empty 304 and the cached snapshot is reused with its indexes.
+     */
+    private EmployeeSnapshot readEmployeeSnapshot(EmployeeSnapshot cached, Instant loadedAt) {
+        if (cached != null && cached.changeCursor() != null) {
+            EmployeeSnapshot caughtUp = readChanges(cached, loadedAt);
+            if (caughtUp != null) {
+                return caughtUp;
+            }
+        }
+        String eTag = cached != null ? cached.eTag() : null;
+        return readAllEmployees(eTag, response -> {
+            if (eTag != null && HttpStatus.NOT_MODIFIED == response.getStatusCode()) {
+                return cached.revalidated(loadedAt);
+            }
+            List<Employee> employees = collect(response.getBody(), Collectors.toList());
+            HttpHeaders headers = response.getHeaders();
+            return new EmployeeSnapshot(employees, loadedAt, headers.getETag(), changeCursor(headers));
+        });
+    }
+
+    /**
+     * @return the cached snapshot with the upstream changes since its cursor applied, or null if the upstream cannot
+     *     replay them, e.g. it restarted or its change log no longer reaches back that far
+     */
+    private EmployeeSnapshot readChanges(EmployeeSnapshot cached, Instant loadedAt) {
+        ChangeCursor cursor = cached.changeCursor();
         try {
-            ResponseEntity<EmployeeListResponse> response = restTemplate.exchange(
-                    employeesEndpoint, HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
-            return response.getBody() != null ? response.getBody().data() : List.of();
+            ResponseEntity<EmployeeChangesResponse> response = upstream.call(
+                    UpstreamOperation.GET_EMPLOYEE_CHANGES,
+                    () -> restTemplate.exchange(
+                            employeesEndpoint + "/changes?epoch={epoch}&since={since}",
+                            HttpMethod.GET,
+                            null,
+                            new ParameterizedTypeReference<>() {},
+                            cursor.epoch(),
+                            cursor.version()));
+            EmployeeChanges changes = response.getBody() != null ? response.getBody().data() : null;
+            if (changes == null) {
+                return null;
+            }
+            return cached.withChanges(
+                    changes.changes(), new ChangeCursor(changes.epoch(), changes.version()), loadedAt);
+        } catch (HttpClientErrorException e) {
+            if (HttpStatus.TOO_MANY_REQUESTS == e.getStatusCode()) {
+                throw new ExternalApiRateLimitException("Failed to retrieve employee changes. Rate limit exceeded");
+            }
+            return null;
+        }
+    }
+
+    private static ChangeCursor changeCursor(HttpHeaders headers) {
+        String epoch = headers.getFirst(ROSTER_EPOCH_HEADER);
+        String version = headers.getFirst(ROSTER_VERSION_HEADER);
+        if (epoch == null || version == null) {
+            return null;
+        }
+        try {
+            return new ChangeCursor(epoch, Long.parseLong(version));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Streams the upstream roster into the collector as it is parsed rather than binding the whole response first.
+     * Every attempt, retries included, starts from a fresh container.
+     */
+    private <R> R readAllEmployees(Collector<Employee, ?, R> collector) {
+        return readAllEmployees(null, response -> collect(response.getBody(), collector));
+    }
+
+    private <R> R readAllEmployees(String ifNoneMatch, ResponseExtractor<R> extractor) {
+        try {
+            return upstream.call(
+                    UpstreamOperation.GET_ALL_EMPLOYEES,
+                    () -> restTemplate.execute(
+                            employeesEndpoint,
+                            HttpMethod.GET,
+                            request -> {
+                                request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+                                if (ifNoneMatch != null) {
+                                    request.getHeaders().setIfNoneMatch(ifNoneMatch);
+                                }
+                            },
+                            extractor));
         } catch (HttpClientErrorException e) {
             if (HttpStatus.TOO_MANY_REQUESTS == e.getStatusCode()) {
                 throw new ExternalApiRateLimitException("Failed to retrieve employees. Rate limit exceeded");
@@ -49,26 +264,96 @@ public class EmployeeService
         }
     }
 
+    private <A, R> R collect(InputStream body, Collector<Employee, A, R> collector) throws IOException {
+        A container = collector.supplier().get();
+        BiConsumer<A, Employee> accumulator = collector.accumulator();
+        employeeListReader.read(body, employee -> accumulator.accept(container, employee));
+        return collector.finisher().apply(container);
+    }
+
+    /**
+     * Answers from the cached snapshot's name index, or without a cache by filtering the upstream roster as it streams.
+     */
     @Override
     public List<Employee> getEmployeesByNameSearch(String name) {
-        List<Employee> employees = getAllEmployees();
-        return employees.stream()
-                .filter(employee -> employee.name().toLowerCase().contains(name.toLowerCase()))
-                .toList();
+        if (!snapshotCache.isEnabled()) {
+            String needle = name.toLowerCase();
+            return readAllEmployees(Collectors.filtering(
+                    employee -> employee.name() != null && employee.name().toLowerCase().contains(needle),
+                    Collectors.toList()));
+        }
+        return snapshotCache.get(this::fetchAllEmployees).findByNameContaining(name, parallelScan);
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> getEmployeesByNameSearchAsync(String name) {
+        if (!snapshotCache.isEnabled()) {
+            return supplyUpstream(() -> getEmployeesByNameSearch(name));
+        }
+        return snapshotCache
+                .getAsync(this::fetchAllEmployees, upstreamExecutor)
+                .thenApply(snapshot -> snapshot.findByNameContaining(name, parallelScan));
     }
 
     @Override
     public Optional<Employee> getEmployeeById(String employeeId) {
+        UUID id = parseId(employeeId);
+        Optional<Employee> cached = id != null ? findCached(id) : null;
+        return cached != null ? cached : fetchAndCacheEmployeeById(employeeId, id);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Employee>> getEmployeeByIdAsync(String employeeId) {
+        UUID id = parseId(employeeId);
+        Optional<Employee> cached = id != null ? findCached(id) : null;
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return supplyUpstream(() -> fetchAndCacheEmployeeById(employeeId, id));
+    }
+
+    /*
+     * Answers from the id cache or the current snapshot; null means only the upstream knows.
+     */
+    private Optional<Employee> findCached(UUID id) {
+        EmployeeIdCache.CachedEmployee cached = idCache.get(id);
+        if (cached != null) {
+            return Optional.ofNullable(cached.employee());
+        }
+        EmployeeSnapshot snapshot = snapshotCache.peek();
+        Employee employee = snapshot != null ? snapshot.findById(id) : null;
+        if (employee == null) {
+            return null;
+        }
+        idCache.put(employee);
+        return Optional.of(employee);
+    }
+
+    private Optional<Employee> fetchAndCacheEmployeeById(String employeeId, UUID id) {
+        Optional<Employee> fetched = fetchEmployeeById(employeeId);
+        if (id != null) {
+            fetched.ifPresentOrElse(idCache::put, () -> idCache.putMissing(id));
+        }
+        return fetched;
+    }
+
+    private Optional<Employee> fetchEmployeeById(String employeeId) {
         try {
             String url = employeesEndpoint + "/" + employeeId;
-            ResponseEntity<EmployeeResponse> response =
-                    restTemplate.exchange(url, HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+            ResponseEntity<EmployeeResponse> response = employeeReads.run(
+                    url,
+                    () -> upstream.call(
+                            UpstreamOperation.GET_EMPLOYEE_BY_ID,
+                            () -> restTemplate.exchange(
+                                    url, HttpMethod.GET, null, new ParameterizedTypeReference<>() {})));
             if (response.getBody() == null || response.getBody().data() == null) {
                 return Optional.empty();
             }
             return Optional.of(response.getBody().data());
         } catch (HttpClientErrorException e) {
-            if (HttpStatus.TOO_MANY_REQUESTS == e.getStatusCode()) {
+            if (HttpStatus.NOT_FOUND == e.getStatusCode()) {
+                return Optional.empty();
+            } else if (HttpStatus.TOO_MANY_REQUESTS == e.getStatusCode()) {
                 throw new ExternalApiRateLimitException("Failed to retrieve employee. Rate limit exceeded");
             } else {
                 throw new ExternalApiException("Failed to retrieve employee");
@@ -76,21 +361,75 @@ public class EmployeeService
         }
     }
 
+    /**
+     * @throws NumberFormatException if an employee's salary is not an integer
+     */
+    @Override
+    public List<Employee> getTopEarners(int k) {
+        if (!snapshotCache.isEnabled()) {
+            return readAllEmployees(SalaryLeaderboard.topCollector(k));
+        }
+        return snapshotCache.get(this::fetchAllEmployees).salaryLeaderboard().top(k);
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> getTopEarnersAsync(int k) {
+        if (!snapshotCache.isEnabled()) {
+            return supplyUpstream(() -> getTopEarners(k));
+        }
+        return snapshotCache
+                .getAsync(this::fetchAllEmployees, upstreamExecutor)
+                .thenApply(snapshot -> snapshot.salaryLeaderboard().top(k));
+    }
+
+    /**
+     * @return the employee's place in the current roster, or empty if no employee has that id
+     * @throws NumberFormatException if an employee's salary is not an integer
+     */
+    @Override
+    public Optional<SalaryRank> getSalaryRank(String employeeId) {
+        UUID id = parseId(employeeId);
+        if (id == null) {
+            return Optional.empty();
+        }
+        EmployeeSnapshot snapshot = snapshotCache.get(this::fetchAllEmployees);
+        Employee employee = snapshot.findById(id);
+        return employee != null ? Optional.of(snapshot.salaryLeaderboard().rank(employee)) : Optional.empty();
+    }
+
+    /**
+     * Aggregates the cached roster in place, so dashboards get salary and age figures without the roster leaving the
+     * service. Missing ages and malformed salaries are left out of the figures rather than failing the request.
+     *
+     * @param buckets how many histogram buckets to split each field's range into
+     */
+    @Override
+    public RosterStats getRosterStats(int buckets) {
+        return snapshotCache.get(this::fetchAllEmployees).stats(buckets);
+    }
+
+    /**
+     * Ranks entries that pack the salary into the high half of a long and the list index into the low half, so heap
+     * comparisons are plain long comparisons with no parsing or boxing. Large lists are split across the parallel
+     * scan's pool, each chunk keeping its own top n before the chunks are merged.
+     *
+     * @throws NumberFormatException before any ranking if an employee's salary is not an integer
+     */
     @Override
     public List<Employee> getNHighestSalaries(int n, List<Employee> employees) throws NumberFormatException {
         if (n <= 0 || employees == null) {
             return List.of();
         }
-        PriorityQueue<Employee> pq = new PriorityQueue<>(Comparator.comparingInt(e -> Integer.parseInt(e.salary())));
-
-        for (Employee employee : employees) {
-            pq.offer(employee);
-            if (pq.size() > n) {
-                pq.poll();
-            }
+        List<Employee> malformed =
+                parallelScan.filter(employees.size(), i -> !employees.get(i).hasValidSalary(), employees::get);
+        if (!malformed.isEmpty()) {
+            throw malformed.get(0).malformedSalary();
+        }
+        long[] top = parallelScan.top(employees.size(), n, i -> ((long) employees.get(i).salaryValue() << 32) | i);
+        List<Employee> highSalaries = new ArrayList<>(top.length);
+        for (long entry : top) {
+            highSalaries.add(employees.get((int) entry));
         }
-        ArrayList<Employee> highSalaries = new ArrayList<>(pq);
-        Collections.reverse(highSalaries);
         return highSalaries;
     }
 
@@ -99,12 +438,17 @@ public class EmployeeService
 
         try {
             HttpEntity<com.reliaquest.api.models.CreateEmployee> request = new HttpEntity<>(createEmployee);
-            ResponseEntity<EmployeeResponse> response = restTemplate.exchange(
-                    employeesEndpoint, HttpMethod.POST, request, new ParameterizedTypeReference<>() {});
+            ResponseEntity<EmployeeResponse> response = upstream.call(
+                    UpstreamOperation.CREATE_EMPLOYEE,
+                    () -> restTemplate.exchange(
+                            employeesEndpoint, HttpMethod.POST, request, new ParameterizedTypeReference<>() {}));
             if (response.getBody() == null || response.getBody().data() == null) {
                 throw new ExternalApiException("Failed to create employee");
             }
-            return response.getBody().data();
+            Employee employee = response.getBody().data();
+            snapshotCache.update(snapshot -> snapshot.withEmployee(employee));
+            idCache.put(employee);
+            return employee;
         } catch (HttpClientErrorException e) {
             if (HttpStatus.TOO_MANY_REQUESTS == e.getStatusCode()) {
                 throw new ExternalApiRateLimitException("Failed to create employee. Rate limit exceeded");
@@ -114,16 +458,28 @@ public class EmployeeService
         }
     }
 
+    @Override
+    public CompletableFuture<Employee> createEmployeeAsync(com.reliaquest.api.models.CreateEmployee createEmployee) {
+        return supplyUpstream(() -> createEmployee(createEmployee));
+    }
+
     @Override
     public boolean deleteEmployeeByName(String name) {
         try {
             HttpEntity<Map<String, String>> request = new HttpEntity<>(Collections.singletonMap("name", name));
-            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
-                    employeesEndpoint, HttpMethod.DELETE, request, new ParameterizedTypeReference<>() {});
+            ResponseEntity<Map<String, Object>> response = upstream.call(
+                    UpstreamOperation.DELETE_EMPLOYEE,
+                    () -> restTemplate.exchange(
+                            employeesEndpoint, HttpMethod.DELETE, request, new ParameterizedTypeReference<>() {}));
             if (response.getBody() == null) {
                 return false;
             }
-            return (Boolean) response.getBody().get("data");
+            boolean deleted = (Boolean) response.getBody().get("data");
+            if (deleted) {
+                snapshotCache.update(snapshot -> snapshot.withoutEmployeeNamed(name));
+                idCache.evictNamed(name);
+            }
+            return deleted;
         } catch (HttpClientErrorException e) {
             if (HttpStatus.TOO_MANY_REQUESTS == e.getStatusCode()) {
                 throw new ExternalApiRateLimitException("Failed to delete employee. Rate limit exceeded");
@@ -133,6 +489,175 @@ public class EmployeeService
         }
     }
 
+    @Override
+    public CompletableFuture<Boolean> deleteEmployeeByNameAsync(String name) {
+        return supplyUpstream(() -> deleteEmployeeByName(name));
+    }
+
+    /**
+     * Validates each employee locally and sends the valid ones to the upstream batch endpoint in pipelined chunks.
+     * Every employee gets a result in input order, either the created employee or why it was not created, so invalid
+     * employees and chunks the upstream refused fail on their own instead of failing the batch.
+     */
+    @Override
+    public List<BatchItem<Employee>> createEmployees(List<com.reliaquest.api.models.CreateEmployee> createEmployees) {
+        return sendBatch(
+                createEmployees,
+                createEmployee -> {
+                    try {
+                        validateCreateEmployee(createEmployee);
+                        return null;
+                    } catch (EmployeeValidationError e) {
+                        return e.getMessage().trim();
+                    }
+                },
+                this::createEmployeeChunk,
+                "Failed to create employees.");
+    }
+
+    private List<BatchItem<Employee>> createEmployeeChunk(List<com.reliaquest.api.models.CreateEmployee> chunk) {
+        try {
+            HttpEntity<List<com.reliaquest.api.models.CreateEmployee>> request = new HttpEntity<>(chunk);
+            ResponseEntity<BatchResponse<Employee>> response = upstream.call(
+                    UpstreamOperation.CREATE_EMPLOYEES,
+                    () -> restTemplate.exchange(
+                            employeesEndpoint + "/batch",
+                            HttpMethod.POST,
+                            request,
+                            new ParameterizedTypeReference<>() {}));
+            List<BatchItem<Employee>> results = batchItems(response, chunk.size(), "Failed to create employees.");
+            List<Employee> created = results.stream()
+                    .filter(result -> result.succeeded() && result.data() != null)
+                    .map(BatchItem::data)
+                    .toList();
+            if (!created.isEmpty()) {
+                snapshotCache.update(snapshot -> {
+                    for (Employee employee : created) {
+                        snapshot = snapshot.withEmployee(employee);
+                    }
+                    return snapshot;
+                });
+                created.forEach(idCache::put);
+            }
+            return results;
+        } catch (HttpClientErrorException e) {
+            if (HttpStatus.TOO_MANY_REQUESTS == e.getStatusCode()) {
+                throw new ExternalApiRateLimitException("Failed to create employees. Rate limit exceeded");
+            } else {
+                throw new ExternalApiException("Failed to create employees.");
+            }
+        }
+    }
+
+    /**
+     * Deletes one employee per name, like {@link #deleteEmployeeByName} for each name in turn, through the upstream
+     * batch endpoint in pipelined chunks. Every name gets a result in input order: whether an employee was deleted, or
+     * why the name was not sent.
+     */
+    @Override
+    public List<BatchItem<Boolean>> deleteEmployeesByName(List<String> names) {
+        return sendBatch(
+                names,
+                name -> name == null || name.isBlank() ? "Name cannot be null or blank." : null,
+                this::deleteEmployeeChunk,
+                "Failed to delete employees.");
+    }
+
+    private List<BatchItem<Boolean>> deleteEmployeeChunk(List<String> chunk) {
+        try {
+            HttpEntity<List<Map<String, String>>> request = new HttpEntity<>(chunk.stream()
+                    .map(name -> Collections.singletonMap("name", name))
+                    .toList());
+            ResponseEntity<BatchResponse<Boolean>> response = upstream.call(
+                    UpstreamOperation.DELETE_EMPLOYEES,
+                    () -> restTemplate.exchange(
+                            employeesEndpoint + "/batch",
+                            HttpMethod.DELETE,
+                            request,
+                            new ParameterizedTypeReference<>() {}));
+            List<BatchItem<Boolean>> results = batchItems(response, chunk.size(), "Failed to delete employees.");
+            List<String> deleted = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                if (Boolean.TRUE.equals(results.get(i).data())) {
+                    deleted.add(chunk.get(i));
+                }
+            }
+            if (!deleted.isEmpty()) {
+                snapshotCache.update(snapshot -> {
+                    for (String name : deleted) {
+                        snapshot = snapshot.withoutEmployeeNamed(name);
+                    }
+                    return snapshot;
+                });
+                deleted.forEach(idCache::evictNamed);
+            }
+            return results;
+        } catch (HttpClientErrorException e) {
+            if (HttpStatus.TOO_MANY_REQUESTS == e.getStatusCode()) {
+                throw new ExternalApiRateLimitException("Failed to delete employees. Rate limit exceeded");
+            } else {
+                throw new ExternalApiException("Failed to delete employees.");
+            }
+        }
+    }
+
+    /*
+     * Items the check rejects fail with its message and are never sent. A chunk that fails as a whole fails each of its
+     * items with the rate limit message when the upstream was refusing calls, and with the given message otherwise.
+     */
+    private <I, T> List<BatchItem<T>> sendBatch(
+            List<I> items, Function<I, String> check, Function<List<I>, List<BatchItem<T>>> chunkCall, String failure) {
+        List<BatchItem<T>> results = new ArrayList<>(Collections.nCopies(items.size(), null));
+        List<I> valid = new ArrayList<>(items.size());
+        List<Integer> positions = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            String error = check.apply(items.get(i));
+            if (error != null) {
+                results.set(i, BatchItem.failed(error));
+            } else {
+                valid.add(items.get(i));
+                positions.add(i);
+            }
+        }
+        List<BatchItem<T>> sent = batchPipeline.run(
+                valid,
+                chunkCall,
+                (chunk, e) -> Collections.nCopies(
+                        chunk.size(),
+                        BatchItem.failed(e instanceof ExternalApiRateLimitException ? e.getMessage() : failure)),
+                upstreamExecutor);
+        for (int i = 0; i < sent.size(); i++) {
+            results.set(positions.get(i), sent.get(i));
+        }
+        return results;
+    }
+
+    private static <T> List<BatchItem<T>> batchItems(
+            ResponseEntity<BatchResponse<T>> response, int expected, String failure) {
+        if (response.getBody() == null
+                || response.getBody().data() == null
+                || response.getBody().data().size() != expected) {
+            throw new ExternalApiException(failure);
+        }
+        return response.getBody().data();
+    }
+
+    private <T> CompletableFuture<T> supplyUpstream(Supplier<T> call) {
+        try {
+            return CompletableFuture.supplyAsync(call, upstreamExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static UUID parseId(String employeeId) {
+        try {
+            return UUID.fromString(employeeId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     public void validateCreateEmployee(com.reliaquest.api.models.CreateEmployee createEmployee)
             throws EmployeeValidationError {
         String message = "";
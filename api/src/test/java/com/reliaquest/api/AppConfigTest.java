@@ -1,26 +1,103 @@
 package com.reliaquest.api;
 
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.RestTemplate;
 
 class AppConfigTest {
     AppConfig appConfig;
+    CloseableHttpClient httpClient;
 
     @BeforeEach
     void setUp() {
         appConfig = new AppConfig();
+        httpClient = appConfig.employeeHttpClient(
+                10,
+                5,
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(5),
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(15),
+                Duration.ofSeconds(2));
     }
 
     @AfterEach
-    void tearDown() {
+    void tearDown() throws Exception {
+        httpClient.close();
         appConfig = null;
     }
 
     @Test
     void restTemplate() {
-        assertNotNull(appConfig.restTemplate());
+        RestTemplate restTemplate = appConfig.restTemplate(httpClient);
+        assertNotNull(restTemplate);
+        assertInstanceOf(HttpComponentsClientHttpRequestFactory.class, restTemplate.getRequestFactory());
+    }
+
+    @Test
+    void upstreamExecutorRejectsWorkBeyondPoolAndQueue() throws Exception {
+        ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) appConfig.upstreamExecutor(false, 2, 2);
+        executor.initialize();
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < 4; i++) {
+                executor.execute(() -> awaitQuietly(release));
+            }
+            assertThrows(TaskRejectedException.class, () -> executor.execute(() -> awaitQuietly(release)));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void upstreamExecutorRunsThousandsOfBlockedCallsOnVirtualThreads() throws Exception {
+        AsyncTaskExecutor executor = appConfig.upstreamExecutor(true, 2, 2);
+        int calls = 5_000;
+        CountDownLatch started = new CountDownLatch(calls);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < calls; i++) {
+                results.add(executor.submit(() -> {
+                    started.countDown();
+                    awaitQuietly(release);
+                }));
+            }
+            assertTrue(started.await(10, TimeUnit.SECONDS), "all calls should be blocked concurrently");
+        } finally {
+            release.countDown();
+        }
+        for (Future<?> result : results) {
+            result.get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 }
@@ -0,0 +1,125 @@
+package com.reliaquest.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Boots the api with virtual threads against an upstream that holds every create until released, and checks that
+ * thousands of requests are blocked in the api at once rather than queued behind Tomcat's platform thread pool.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+            "spring.threads.virtual.enabled=true",
+            "employees.rate-limit.enabled=false",
+            "employees.http.max-connections=4000",
+            "employees.http.max-connections-per-route=4000",
+            "employees.http.read-timeout=60s"
+        })
+class VirtualThreadRequestsTest {
+    // well past Tomcat's default of 200 platform request threads
+    static final int REQUESTS = 2_000;
+
+    static final CountDownLatch arrived = new CountDownLatch(REQUESTS);
+    static final CountDownLatch release = new CountDownLatch(1);
+    static final ExecutorService upstreamThreads = Executors.newCachedThreadPool();
+    static HttpServer upstream;
+
+    @LocalServerPort
+    int port;
+
+    @DynamicPropertySource
+    static void upstreamEndpoint(DynamicPropertyRegistry registry) throws IOException {
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 0), REQUESTS * 2);
+        upstream.createContext("/api/v1/employee", VirtualThreadRequestsTest::answer);
+        upstream.setExecutor(upstreamThreads);
+        upstream.start();
+        registry.add(
+                "endpoints.employees",
+                () -> "http://localhost:" + upstream.getAddress().getPort() + "/api/v1/employee");
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        release.countDown();
+        upstream.stop(0);
+        upstreamThreads.shutdownNow();
+    }
+
+    @Test
+    void thousandsOfRequestsBlockOnTheUpstreamAtOnce() throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpRequest create = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"name\":\"Jill Jenkins\",\"salary\":\"57000\",\"age\":30,\"title\":\"Engineer\"}"))
+                .build();
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>();
+        try {
+            for (int i = 0; i < REQUESTS; i++) {
+                responses.add(client.sendAsync(create, HttpResponse.BodyHandlers.discarding()));
+            }
+            assertTrue(
+                    arrived.await(30, TimeUnit.SECONDS),
+                    arrived.getCount() + " of " + REQUESTS + " requests never reached the upstream");
+        } finally {
+            release.countDown();
+        }
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            assertEquals(201, response.get(30, TimeUnit.SECONDS).statusCode());
+        }
+    }
+
+    /*
+     * Creates wait for the release; anything else, like a roster load, gets an empty roster straight away.
+     */
+    private static void answer(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        String body = "{\"data\":[],\"status\":\"Successfully processed request.\"}";
+        if ("POST".equals(exchange.getRequestMethod())) {
+            arrived.countDown();
+            try {
+                release.await(60, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            body = "{\"data\":{\"id\":\"" + UUID.randomUUID() + "\",\"employee_name\":\"Jill Jenkins\","
+                    + "\"employee_salary\":\"57000\",\"employee_age\":30,\"employee_title\":\"Engineer\","
+                    + "\"employee_email\":\"jill@company.com\"},\"status\":\"Successfully processed request.\"}";
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.models.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeColumnsTest {
+
+    @Test
+    void rowsRebuildTheOriginalEmployees() {
+        List<Employee> employees = List.of(
+                new Employee(UUID.randomUUID(), "John Doe", "57000", 54, "Software Engineer", "foo@bar.com"),
+                new Employee(UUID.randomUUID(), "Jane Doe", "-5", 41, "Software Engineer", "jane@bar.com"),
+                new Employee(UUID.randomUUID(), "Bob Test", "057000", null, null, null),
+                new Employee(null, null, "lots", 30, "Manager", "bob@bar.com"),
+                new Employee(UUID.randomUUID(), "Mary Sue", null, 36, "Manager", "mary@bar.com"));
+
+        EmployeeColumns columns = EmployeeColumns.of(employees);
+
+        assertEquals(employees, columns.rows());
+        assertEquals(57000, columns.row(2).salaryValue());
+        assertEquals("057000", columns.row(2).salary());
+        assertFalse(columns.row(3).hasValidSalary());
+    }
+
+    @Test
+    void withRowAndWithoutRowPatchACopy() {
+        Employee john = new Employee(UUID.randomUUID(), "John Doe", "57000", 54, "Software Engineer", "foo@bar.com");
+        Employee jane = new Employee(UUID.randomUUID(), "Jane Doe", "64000", 41, "Engineering Manager", "j@bar.com");
+        Employee bob = new Employee(UUID.randomUUID(), "Bob Test", "40000", 30, "Software Engineer", "bob@bar.com");
+        EmployeeColumns columns = EmployeeColumns.of(List.of(john, jane));
+
+        EmployeeColumns hired = columns.withRow(bob).withRow(
+                new Employee(UUID.randomUUID(), "Ann Lee", "90000", 45, "Director", "ann@bar.com"));
+        assertEquals(List.of(john, jane, bob), hired.rows().subList(0, 3));
+        assertEquals("Director", hired.row(3).title());
+        assertEquals(List.of(john, jane), columns.rows());
+
+        EmployeeColumns fired = hired.withoutRow(0);
+        assertEquals(List.of(jane, bob), fired.rows().subList(0, 2));
+        assertEquals(3, fired.size());
+    }
+
+    @Test
+    void compareIdsFollowsUuidOrderWithMissingIdsLast() {
+        List<Employee> employees = new ArrayList<>();
+        Random random = new Random(3);
+        for (int i = 0; i < 100; i++) {
+            UUID id = i % 10 == 0 ? null : new UUID(random.nextLong(), random.nextLong());
+            employees.add(new Employee(id, "Employee " + i, "1000", 30, "Engineer", "e@bar.com"));
+        }
+        EmployeeColumns columns = EmployeeColumns.of(employees);
+        int[] rows = new int[employees.size()];
+        Arrays.setAll(rows, row -> row);
+
+        EmployeeColumns.sortRows(rows, columns::compareIds);
+
+        for (int i = 1; i < rows.length; i++) {
+            UUID previous = employees.get(rows[i - 1]).id();
+            UUID current = employees.get(rows[i]).id();
+            if (current != null) {
+                assertNotNull(previous);
+                assertTrue(previous.compareTo(current) < 0);
+            } else if (previous == null) {
+                assertTrue(rows[i - 1] < rows[i], "sort should be stable");
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.MutableClock;
+import com.reliaquest.api.models.Employee;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeIdCacheTest {
+    MutableClock clock;
+    EmployeeIdCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        cache = new EmployeeIdCache(2, Duration.ofSeconds(30), Duration.ofSeconds(5), clock);
+    }
+
+    @Test
+    void getReturnsCachedEmployee() {
+        Employee employee = employee("John Doe");
+        cache.put(employee);
+
+        EmployeeIdCache.CachedEmployee cached = cache.get(employee.id());
+        assertNotNull(cached);
+        assertEquals(employee, cached.employee());
+    }
+
+    @Test
+    void getReturnsNullOnMiss() {
+        assertNull(cache.get(UUID.randomUUID()));
+    }
+
+    @Test
+    void getExpiresEntriesAfterTtl() {
+        Employee employee = employee("John Doe");
+        cache.put(employee);
+
+        clock.advance(Duration.ofSeconds(30));
+        assertNull(cache.get(employee.id()));
+    }
+
+    @Test
+    void putMissingIsRememberedForNegativeTtl() {
+        UUID id = UUID.randomUUID();
+        cache.putMissing(id);
+
+        EmployeeIdCache.CachedEmployee cached = cache.get(id);
+        assertNotNull(cached);
+        assertNull(cached.employee());
+
+        clock.advance(Duration.ofSeconds(5));
+        assertNull(cache.get(id));
+    }
+
+    @Test
+    void putEvictsLeastRecentlyUsedBeyondMaxSize() {
+        Employee first = employee("John Doe");
+        Employee second = employee("Jane Doe");
+        Employee third = employee("Bob Test");
+        cache.put(first);
+        cache.put(second);
+        cache.get(first.id());
+        cache.put(third);
+
+        assertNotNull(cache.get(first.id()));
+        assertNull(cache.get(second.id()));
+        assertNotNull(cache.get(third.id()));
+    }
+
+    @Test
+    void evictNamedRemovesMatchesIgnoringCase() {
+        Employee john = employee("John Doe");
+        Employee jane = employee("Jane Doe");
+        cache.put(john);
+        cache.put(jane);
+
+        cache.evictNamed("JOHN DOE");
+
+        assertNull(cache.get(john.id()));
+        assertNotNull(cache.get(jane.id()));
+    }
+
+    @Test
+    void disabledCacheStoresNothing() {
+        EmployeeIdCache disabled = EmployeeIdCache.disabled();
+        Employee employee = employee("John Doe");
+        disabled.put(employee);
+        disabled.putMissing(UUID.randomUUID());
+
+        assertNull(disabled.get(employee.id()));
+    }
+
+    private static Employee employee(String name) {
+        return new Employee(UUID.randomUUID(), name, "57000", 54, "Software Engineer", "foo@bar.com");
+    }
+}
@@ -0,0 +1,459 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.MutableClock;
+import com.reliaquest.api.exceptions.ExternalApiRateLimitException;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeeChange;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeSnapshotCacheTest {
+    MutableClock clock;
+    List<Runnable> backgroundTasks;
+    EmployeeSnapshotCache cache;
+    AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        backgroundTasks = new ArrayList<>();
+        cache = new EmployeeSnapshotCache(
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(10),
+                Duration.ofMinutes(5),
+                false,
+                clock,
+                backgroundTasks::add);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void getServesSnapshotWithinTtl() {
+        Supplier<List<Employee>> loader = countingLoader(List.of(employee("John Doe")));
+
+        EmployeeSnapshot first = cache.get(loader);
+        clock.advance(Duration.ofSeconds(5));
+        EmployeeSnapshot second = cache.get(loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertTrue(backgroundTasks.isEmpty());
+    }
+
+    @Test
+    void getReloadsAfterTtl() {
+        Supplier<List<Employee>> loader = countingLoader(List.of(employee("John Doe")));
+
+        EmployeeSnapshot first = cache.get(loader);
+        clock.advance(Duration.ofSeconds(31));
+        EmployeeSnapshot second = cache.get(loader);
+
+        assertNotSame(first, second);
+        assertEquals(2, loads.get());
+        assertEquals(clock.instant(), second.loadedAt());
+    }
+
+    @Test
+    void getRefreshesAheadOfExpiryInBackground() {
+        Supplier<List<Employee>> loader = countingLoader(List.of(employee("John Doe")));
+
+        EmployeeSnapshot first = cache.get(loader);
+        clock.advance(Duration.ofSeconds(25));
+        assertSame(first, cache.get(loader));
+        assertSame(first, cache.get(loader));
+        assertEquals(1, backgroundTasks.size());
+        assertEquals(1, loads.get());
+
+        backgroundTasks.get(0).run();
+        EmployeeSnapshot refreshed = cache.get(loader);
+        assertNotSame(first, refreshed);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void getSharesOneLoadBetweenConcurrentCallers() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<List<Employee>> loader = () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(employee("John Doe"));
+        };
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<EmployeeSnapshot>> results = new ArrayList<>();
+            results.add(callers.submit(() -> cache.get(loader)));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 7; i++) {
+                results.add(callers.submit(() -> cache.get(loader)));
+            }
+            release.countDown();
+
+            EmployeeSnapshot expected = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<EmployeeSnapshot> result : results) {
+                assertSame(expected, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void getAsyncSharesOneLoadWithoutBlockingCallers() {
+        List<Runnable> upstreamTasks = new ArrayList<>();
+        Supplier<List<Employee>> loader = countingLoader(List.of(employee("John Doe")));
+
+        CompletableFuture<EmployeeSnapshot> first = cache.getAsync(loader, upstreamTasks::add);
+        CompletableFuture<EmployeeSnapshot> second = cache.getAsync(loader, upstreamTasks::add);
+        assertFalse(first.isDone());
+        assertEquals(1, upstreamTasks.size());
+
+        upstreamTasks.get(0).run();
+        assertSame(first.join(), second.join());
+        assertEquals(1, loads.get());
+        assertTrue(cache.getAsync(loader, upstreamTasks::add).isDone());
+    }
+
+    @Test
+    void getPropagatesLoadFailureWithoutCachingIt() {
+        assertThrows(ExternalApiRateLimitException.class, () -> cache.get(() -> {
+            throw new ExternalApiRateLimitException("Rate limit exceeded");
+        }));
+
+        Supplier<List<Employee>> loader = countingLoader(List.of(employee("John Doe")));
+        assertEquals(1, cache.get(loader).employees().size());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void getServesStaleSnapshotWhileRateLimited() {
+        EmployeeSnapshot loaded = cache.get(countingLoader(List.of(employee("John Doe"))));
+        Supplier<List<Employee>> rateLimited = () -> {
+            throw new ExternalApiRateLimitException("Rate limit exceeded");
+        };
+
+        clock.advance(Duration.ofMinutes(1));
+        assertSame(loaded, cache.get(rateLimited));
+
+        clock.advance(Duration.ofMinutes(5));
+        assertThrows(ExternalApiRateLimitException.class, () -> cache.get(rateLimited));
+    }
+
+    @Test
+    void getDoesNotServeStaleSnapshotForOtherFailures() {
+        cache.get(countingLoader(List.of(employee("John Doe"))));
+
+        clock.advance(Duration.ofMinutes(1));
+        assertThrows(IllegalStateException.class, () -> cache.get(() -> {
+            throw new IllegalStateException("boom");
+        }));
+    }
+
+    @Test
+    void readReportsSourceAndAge() {
+        Supplier<List<Employee>> loader = countingLoader(List.of(employee("John Doe")));
+
+        SnapshotRead loaded = cache.read(loader);
+        assertEquals(SnapshotRead.Source.UPSTREAM, loaded.source());
+        assertEquals(Duration.ZERO, loaded.age());
+
+        clock.advance(Duration.ofSeconds(5));
+        SnapshotRead cached = cache.read(loader);
+        assertEquals(SnapshotRead.Source.CACHE, cached.source());
+        assertEquals(Duration.ofSeconds(5), cached.age());
+
+        clock.advance(Duration.ofSeconds(30));
+        SnapshotRead stale = cache.read(() -> {
+            throw new ExternalApiRateLimitException("Rate limit exceeded");
+        });
+        assertEquals(SnapshotRead.Source.STALE, stale.source());
+        assertEquals(Duration.ofSeconds(35), stale.age());
+    }
+
+    @Test
+    void staleWhileRevalidateServesExpiredSnapshotAndRefreshesInBackground() {
+        EmployeeSnapshotCache swr = new EmployeeSnapshotCache(
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(10),
+                Duration.ofMinutes(5),
+                true,
+                clock,
+                backgroundTasks::add);
+        Supplier<List<Employee>> loader = countingLoader(List.of(employee("John Doe")));
+        EmployeeSnapshot first = swr.get(loader);
+
+        clock.advance(Duration.ofMinutes(1));
+        SnapshotRead stale = swr.read(loader);
+        assertSame(first, stale.snapshot());
+        assertEquals(SnapshotRead.Source.STALE, stale.source());
+        assertEquals(1, loads.get());
+        assertEquals(1, backgroundTasks.size());
+
+        backgroundTasks.get(0).run();
+        SnapshotRead revalidated = swr.read(loader);
+        assertEquals(SnapshotRead.Source.CACHE, revalidated.source());
+        assertNotSame(first, revalidated.snapshot());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void staleWhileRevalidateLoadsSynchronouslyPastMaxStale() {
+        EmployeeSnapshotCache swr = new EmployeeSnapshotCache(
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(10),
+                Duration.ofMinutes(5),
+                true,
+                clock,
+                backgroundTasks::add);
+        Supplier<List<Employee>> loader = countingLoader(List.of(employee("John Doe")));
+        swr.get(loader);
+
+        clock.advance(Duration.ofMinutes(6));
+        assertEquals(SnapshotRead.Source.UPSTREAM, swr.read(loader).source());
+        assertTrue(backgroundTasks.isEmpty());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidateForcesReload() {
+        Supplier<List<Employee>> loader = countingLoader(List.of(employee("John Doe")));
+
+        cache.get(loader);
+        cache.invalidate();
+        cache.get(loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void updatePatchesCurrentSnapshotWithoutReloading() {
+        Employee john = employee("John Doe");
+        Employee jane = employee("Jane Doe");
+        Supplier<List<Employee>> loader = countingLoader(List.of(john));
+
+        EmployeeSnapshot loaded = cache.get(loader);
+        cache.update(snapshot -> snapshot.withEmployee(jane));
+        assertEquals(List.of(john, jane), cache.get(loader).employees());
+
+        cache.update(snapshot -> snapshot.withoutEmployeeNamed("JOHN DOE"));
+        EmployeeSnapshot patched = cache.get(loader);
+        assertEquals(List.of(jane), patched.employees());
+        assertEquals(loaded.loadedAt(), patched.loadedAt());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void updateIsIgnoredWhenNothingIsCached() {
+        cache.update(snapshot -> snapshot.withEmployee(employee("Jane Doe")));
+
+        Supplier<List<Employee>> loader = countingLoader(List.of(employee("John Doe")));
+        assertEquals(1, cache.get(loader).employees().size());
+    }
+
+    @Test
+    void loadOverlappingUpdateIsNotCached() {
+        Supplier<List<Employee>> loader = () -> {
+            loads.incrementAndGet();
+            cache.update(snapshot -> snapshot.withEmployee(employee("Jane Doe")));
+            return List.of(employee("John Doe"));
+        };
+
+        cache.get(loader);
+        cache.get(countingLoader(List.of(employee("John Doe"))));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void reloadCanRevalidateCachedSnapshotKeepingItsIndexes() {
+        List<EmployeeSnapshot> handed = new ArrayList<>();
+        EmployeeSnapshotCache.Loader loader = (cached, loadedAt) -> {
+            handed.add(cached);
+            return cached != null && cached.eTag() != null
+                    ? cached.revalidated(loadedAt)
+                    : new EmployeeSnapshot(List.of(employee("John Doe")), loadedAt, "\"v1\"", null);
+        };
+
+        EmployeeSnapshot loaded = cache.get(loader);
+        SalaryLeaderboard leaderboard = loaded.salaryLeaderboard();
+        clock.advance(Duration.ofSeconds(31));
+        EmployeeSnapshot revalidated = cache.get(loader);
+
+        assertEquals(Arrays.asList(null, loaded), handed);
+        assertEquals(clock.instant(), revalidated.loadedAt());
+        assertEquals("\"v1\"", revalidated.eTag());
+        assertSame(leaderboard, revalidated.salaryLeaderboard());
+        assertSame(revalidated, cache.get(loader));
+
+        cache.update(snapshot -> snapshot.withEmployee(employee("Jane Doe")));
+        assertNull(cache.get(loader).eTag());
+        clock.advance(Duration.ofSeconds(31));
+        EmployeeSnapshot reloaded = cache.get(loader);
+        assertEquals(1, reloaded.size());
+        assertEquals("\"v1\"", reloaded.eTag());
+    }
+
+    @Test
+    void withoutEmployeeNamedRemovesFirstMatchOnly() {
+        Employee first = employee("John Doe");
+        Employee second = employee("john doe");
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(List.of(first, second), clock.instant());
+
+        assertEquals(List.of(second), snapshot.withoutEmployeeNamed("John Doe").employees());
+        assertSame(snapshot, snapshot.withoutEmployeeNamed("Jane Doe"));
+    }
+
+    @Test
+    void withChangesAppliesEachUpstreamWriteOnce() {
+        Employee john = employee("John Doe");
+        Employee jane = employee("Jane Doe");
+        Employee bob = new Employee(UUID.randomUUID(), "Bob Test", "40000", 24, "Intern", "bob@bar.com");
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(
+                List.of(john, jane), clock.instant(), "\"v1\"", new ChangeCursor("epoch", 1));
+        snapshot.salaryLeaderboard();
+        EmployeeSnapshot patchedLocally = snapshot.withEmployee(bob);
+        assertEquals(new ChangeCursor("epoch", 1), patchedLocally.changeCursor());
+
+        clock.advance(Duration.ofSeconds(5));
+        EmployeeSnapshot caughtUp = patchedLocally.withChanges(
+                List.of(
+                        new EmployeeChange(2, EmployeeChange.Type.CREATED, bob),
+                        new EmployeeChange(3, EmployeeChange.Type.DELETED, john),
+                        new EmployeeChange(4, EmployeeChange.Type.DELETED, john)),
+                new ChangeCursor("epoch", 4),
+                clock.instant());
+
+        assertEquals(List.of(jane, bob), caughtUp.employees());
+        assertEquals(List.of(jane, bob), caughtUp.salaryLeaderboard().top(10));
+        assertEquals(new ChangeCursor("epoch", 4), caughtUp.changeCursor());
+        assertEquals(clock.instant(), caughtUp.loadedAt());
+        assertNull(caughtUp.eTag());
+
+        EmployeeSnapshot unchanged = snapshot.withChanges(List.of(), new ChangeCursor("epoch", 1), clock.instant());
+        assertEquals("\"v1\"", unchanged.eTag());
+        assertSame(snapshot.salaryLeaderboard(), unchanged.salaryLeaderboard());
+    }
+
+    @Test
+    void withChangesAppliesManyChangesAsOneCopyMatchingRebuiltSnapshot() {
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            String salary = Integer.toString(40000 + (i * 7919) % 90000);
+            String title = "Title " + i % 4;
+            roster.add(new Employee(UUID.randomUUID(), "Employee " + i, salary, 30, title, "e" + i + "@bar.com"));
+        }
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(roster, clock.instant(), null, new ChangeCursor("epoch", 1));
+        snapshot.salaryLeaderboard();
+        snapshot.findByNameContaining("employee");
+        Employee gone = new Employee(UUID.randomUUID(), "Gone Soon", "99000", 30, "Auditor", "gone@bar.com");
+        Employee auditor = new Employee(UUID.randomUUID(), "Ann Auditor", "61000", 40, "Auditor", "ann@bar.com");
+        Employee rehired = new Employee(roster.get(20).id(), "Employee 20", "150000", 31, "Title 0", "e20@bar.com");
+        List<EmployeeChange> changes = List.of(
+                new EmployeeChange(2, EmployeeChange.Type.DELETED, roster.get(3)),
+                new EmployeeChange(3, EmployeeChange.Type.DELETED, roster.get(10)),
+                new EmployeeChange(4, EmployeeChange.Type.CREATED, gone),
+                new EmployeeChange(5, EmployeeChange.Type.CREATED, auditor),
+                new EmployeeChange(6, EmployeeChange.Type.DELETED, gone),
+                new EmployeeChange(7, EmployeeChange.Type.DELETED, roster.get(10)),
+                new EmployeeChange(8, EmployeeChange.Type.CREATED, roster.get(5)),
+                new EmployeeChange(9, EmployeeChange.Type.DELETED, roster.get(20)),
+                new EmployeeChange(10, EmployeeChange.Type.CREATED, rehired),
+                new EmployeeChange(11, EmployeeChange.Type.DELETED, roster.get(40)));
+
+        EmployeeSnapshot caughtUp = snapshot.withChanges(changes, new ChangeCursor("epoch", 11), clock.instant());
+
+        List<Employee> expected = new ArrayList<>(roster);
+        expected.removeAll(List.of(roster.get(3), roster.get(10), roster.get(20), roster.get(40)));
+        expected.add(auditor);
+        expected.add(rehired);
+        assertEquals(expected, caughtUp.employees());
+        assertEquals(SalaryLeaderboard.of(expected).top(100), caughtUp.salaryLeaderboard().top(100));
+        assertEquals(List.of(auditor), caughtUp.findByNameContaining("auditor"));
+        assertEquals(
+                expected.stream().filter(e -> e.name().contains("Employee 2")).toList(),
+                caughtUp.findByNameContaining("employee 2"));
+        assertEquals(rehired, caughtUp.findById(rehired.id()));
+        assertEquals(new ChangeCursor("epoch", 11), caughtUp.changeCursor());
+    }
+
+    @Test
+    void withChangesKeepsIndexesWhenEveryChangeWasAlreadyApplied() {
+        Employee john = employee("John Doe");
+        EmployeeSnapshot snapshot =
+                new EmployeeSnapshot(List.of(john), clock.instant(), null, new ChangeCursor("e", 1));
+        SalaryLeaderboard ranked = snapshot.salaryLeaderboard();
+
+        EmployeeSnapshot caughtUp = snapshot.withChanges(
+                List.of(new EmployeeChange(2, EmployeeChange.Type.CREATED, john)),
+                new ChangeCursor("e", 2),
+                clock.instant());
+
+        assertEquals(List.of(john), caughtUp.employees());
+        assertSame(ranked, caughtUp.salaryLeaderboard());
+        assertEquals(new ChangeCursor("e", 2), caughtUp.changeCursor());
+    }
+
+    @Test
+    void pageAfterWalksRosterByIdAcrossWrites() {
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            roster.add(employee("Employee " + i));
+        }
+        List<Employee> byId = roster.stream().sorted(Comparator.comparing(Employee::id)).toList();
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(List.copyOf(roster), clock.instant());
+
+        List<Employee> first = snapshot.pageAfter(null, 2);
+        assertEquals(byId.subList(0, 2), first);
+        EmployeeSnapshot patched = snapshot.withoutEmployeeNamed(byId.get(1).name());
+        assertEquals(byId.subList(2, 4), patched.pageAfter(first.get(1).id(), 2));
+        assertEquals(byId.subList(4, 5), patched.pageAfter(byId.get(3).id(), 2));
+        assertEquals(List.of(), patched.pageAfter(byId.get(4).id(), 2));
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+        EmployeeSnapshotCache disabled = EmployeeSnapshotCache.disabled();
+        Supplier<List<Employee>> loader = countingLoader(List.of(employee("John Doe")));
+
+        disabled.get(loader);
+        disabled.get(loader);
+
+        assertFalse(disabled.isEnabled());
+        assertEquals(2, loads.get());
+    }
+
+    private Supplier<List<Employee>> countingLoader(List<Employee> employees) {
+        return () -> {
+            loads.incrementAndGet();
+            return employees;
+        };
+    }
+
+    private static Employee employee(String name) {
+        return new Employee(UUID.randomUUID(), name, "57000", 54, "Software Engineer", "foo@bar.com");
+    }
+}
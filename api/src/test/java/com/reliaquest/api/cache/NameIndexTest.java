@@ -0,0 +1,129 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.models.Employee;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class NameIndexTest {
+    private static final ParallelScan SEQUENTIAL = ParallelScan.sequential();
+
+    @Test
+    void searchMatchesSubstringIgnoringCaseInRosterOrder() {
+        Employee john = employee("John Doe");
+        Employee jane = employee("Jane Doe");
+        Employee bob = employee("Bob Test");
+        NameIndex index = NameIndex.of(EmployeeColumns.of(List.of(john, jane, bob)));
+
+        assertEquals(List.of(john, jane), index.search("DOE", SEQUENTIAL));
+        assertEquals(List.of(jane), index.search("ane d", SEQUENTIAL));
+        assertEquals(List.of(bob), index.search("b", SEQUENTIAL));
+        assertEquals(List.of(john, jane, bob), index.search("", SEQUENTIAL));
+        assertEquals(List.of(), index.search("doe jr", SEQUENTIAL));
+    }
+
+    @Test
+    void searchRequiresTrigramsInOrderNotJustPresent() {
+        Employee employee = employee("abc bcd");
+        NameIndex index = NameIndex.of(EmployeeColumns.of(List.of(employee)));
+
+        assertEquals(List.of(), index.search("abcd", SEQUENTIAL));
+        assertEquals(List.of(employee), index.search("abc b", SEQUENTIAL));
+    }
+
+    @Test
+    void searchSkipsEmployeesWithoutName() {
+        Employee named = employee("John Doe");
+        NameIndex index = NameIndex.of(EmployeeColumns.of(List.of(employee(null), named)));
+
+        assertEquals(List.of(named), index.search("jo", SEQUENTIAL));
+        assertEquals(List.of(named), index.search("john", SEQUENTIAL));
+    }
+
+    @Test
+    void searchAgreesWithLinearScan() {
+        Random random = new Random(7);
+        String alphabet = "abcAB \u00c9\u00e9\u0130I\u0131";
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            roster.add(employee(randomText(random, alphabet, 1 + random.nextInt(12))));
+        }
+        NameIndex index = NameIndex.of(EmployeeColumns.of(roster));
+
+        for (int i = 0; i < 2000; i++) {
+            String query = randomText(random, alphabet, random.nextInt(6));
+            List<Employee> expected = roster.stream()
+                    .filter(employee -> employee.name().toLowerCase().contains(query.toLowerCase()))
+                    .toList();
+            assertEquals(expected, index.search(query, SEQUENTIAL), query);
+        }
+    }
+
+    @Test
+    void splitSearchMatchesSequentialSearch() {
+        Random random = new Random(9);
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            roster.add(employee(randomText(random, "abcde ", 1 + random.nextInt(10))));
+        }
+        NameIndex index = NameIndex.of(EmployeeColumns.of(roster));
+
+        try (ParallelScan parallel = new ParallelScan(1, 16, new ForkJoinPool(4))) {
+            for (String query : List.of("", "a", "ab", "abc", "a b", "edcb")) {
+                assertEquals(index.search(query, SEQUENTIAL), index.search(query, parallel), query);
+            }
+        }
+    }
+
+    @Test
+    void patchedIndexAgreesWithRebuiltIndexAcrossWrites() {
+        Random random = new Random(11);
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            roster.add(employee(randomText(random, "abcd ", 1 + random.nextInt(8))));
+        }
+        EmployeeColumns columns = EmployeeColumns.of(roster);
+        NameIndex index = NameIndex.of(columns);
+        NameIndex original = index;
+        List<Employee> originalMatches = original.search("abc", SEQUENTIAL);
+
+        // enough removals that the removed slots outgrow the live rows and the index is rebuilt along the way
+        for (int round = 0; round < 60; round++) {
+            BitSet removed = new BitSet();
+            for (int i = random.nextInt(8); i > 0 && columns.size() > 0; i--) {
+                removed.set(random.nextInt(columns.size()));
+            }
+            List<Employee> appended = new ArrayList<>();
+            for (int i = random.nextInt(round < 40 ? 3 : 8); i > 0; i--) {
+                String name = randomText(random, "abcd ", 1 + random.nextInt(8));
+                appended.add(employee(random.nextInt(10) == 0 ? null : name));
+            }
+            columns = columns.withRows(removed, appended);
+            index = index.withRows(removed, columns);
+
+            NameIndex rebuilt = NameIndex.of(columns);
+            for (String query : List.of("", "a", "ab", "abc", "b d", "dcba", randomText(random, "abcd ", 3))) {
+                assertEquals(rebuilt.search(query, SEQUENTIAL), index.search(query, SEQUENTIAL), query);
+            }
+        }
+        assertEquals(originalMatches, original.search("abc", SEQUENTIAL));
+    }
+
+    private static String randomText(Random random, String alphabet, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return text.toString();
+    }
+
+    private static Employee employee(String name) {
+        return new Employee(UUID.randomUUID(), name, "57000", 54, "Software Engineer", "foo@bar.com");
+    }
+}
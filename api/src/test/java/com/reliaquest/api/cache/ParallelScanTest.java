@@ -0,0 +1,48 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelScanTest {
+    ParallelScan parallel = new ParallelScan(1, 16, new ForkJoinPool(4));
+
+    @AfterEach
+    void tearDown() {
+        parallel.close();
+    }
+
+    @Test
+    void filterKeepsRowOrderAcrossChunks() {
+        List<Integer> expected = IntStream.range(0, 1000).filter(i -> i % 7 == 0).boxed().toList();
+
+        assertEquals(expected, parallel.filter(1000, i -> i % 7 == 0, i -> i));
+        assertEquals(expected, ParallelScan.sequential().filter(1000, i -> i % 7 == 0, i -> i));
+        assertEquals(List.of(), parallel.filter(0, i -> true, i -> i));
+    }
+
+    @Test
+    void topMatchesSortingAcrossChunks() {
+        Random random = new Random(13);
+        long[] entries = new long[1000];
+        Arrays.setAll(entries, i -> ((long) (random.nextInt(200) - 100) << 32) | i);
+        long[] sorted = entries.clone();
+        Arrays.sort(sorted);
+
+        for (int n : new int[] {1, 10, 999, 1000, 5000}) {
+            long[] expected = new long[Math.min(n, sorted.length)];
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = sorted[sorted.length - 1 - i];
+            }
+            assertArrayEquals(expected, parallel.top(entries.length, n, i -> entries[i]));
+            assertArrayEquals(expected, ParallelScan.sequential().top(entries.length, n, i -> entries[i]));
+        }
+        assertArrayEquals(new long[0], parallel.top(entries.length, 0, i -> entries[i]));
+    }
+}
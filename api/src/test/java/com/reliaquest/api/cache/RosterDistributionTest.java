@@ -0,0 +1,142 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.FieldStats;
+import com.reliaquest.api.models.GroupStats;
+import com.reliaquest.api.models.HistogramBucket;
+import com.reliaquest.api.models.RosterStats;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class RosterDistributionTest {
+
+    @Test
+    void statsGroupByTitleWithUntitledLast() {
+        List<Employee> employees = List.of(
+                employee("57000", 54, "Software Engineer"),
+                employee("99000", 36, "Manager"),
+                employee("43000", 30, "Software Engineer"),
+                employee("lots", null, "Manager"),
+                employee("20000", 22, null));
+
+        RosterStats stats = RosterDistribution.of(EmployeeColumns.of(employees)).stats(2);
+
+        GroupStats all = stats.all();
+        assertEquals(5, all.headcount());
+        assertEquals(4, all.salary().count());
+        assertEquals(219000, all.salary().sum());
+        assertEquals(54750.0, all.salary().mean());
+        assertEquals(20000, all.salary().min());
+        assertEquals(99000, all.salary().max());
+        assertEquals(43000, all.salary().percentiles().get("p50"));
+        assertEquals(99000, all.salary().percentiles().get("p99"));
+        assertEquals(
+                List.of(new HistogramBucket(20000, 59500, 3), new HistogramBucket(59500, 99001, 1)),
+                all.salary().histogram());
+        assertEquals(4, all.age().count());
+        assertEquals(142, all.age().sum());
+
+        assertEquals(
+                Arrays.asList("Manager", "Software Engineer", null),
+                stats.byTitle().stream().map(GroupStats::title).toList());
+        GroupStats managers = stats.byTitle().get(0);
+        assertEquals(2, managers.headcount());
+        assertEquals(1, managers.salary().count());
+        assertEquals(1, managers.age().count());
+        assertEquals(
+                Map.of("p25", 43000, "p50", 43000, "p75", 57000, "p90", 57000, "p95", 57000, "p99", 57000),
+                stats.byTitle().get(1).salary().percentiles());
+    }
+
+    @Test
+    void groupWithoutValuesHasNoFigures() {
+        RosterStats stats =
+                RosterDistribution.of(EmployeeColumns.of(List.of(employee(null, null, "Intern")))).stats(10);
+
+        FieldStats salary = stats.byTitle().get(0).salary();
+        assertEquals(new FieldStats(0, 0, null, null, null, Map.of(), List.of()), salary);
+        assertEquals(1, stats.all().headcount());
+    }
+
+    @Test
+    void statsMatchSortingEachGroup() {
+        Random random = new Random(5);
+        String[] titles = {"Engineer", "Manager", "Director", "Intern"};
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            employees.add(employee(
+                    Integer.toString(random.nextInt(200_000)), 18 + random.nextInt(50), titles[random.nextInt(4)]));
+        }
+
+        RosterStats stats = RosterDistribution.of(EmployeeColumns.of(employees)).stats(7);
+
+        assertEquals(4, stats.byTitle().size());
+        for (GroupStats group : stats.byTitle()) {
+            int[] salaries = employees.stream()
+                    .filter(employee -> employee.title().equals(group.title()))
+                    .mapToInt(Employee::salaryValue)
+                    .sorted()
+                    .toArray();
+            FieldStats salary = group.salary();
+            assertEquals(salaries.length, group.headcount());
+            assertEquals(Arrays.stream(salaries).asLongStream().sum(), salary.sum());
+            assertEquals(salaries[0], salary.min());
+            assertEquals(salaries[salaries.length - 1], salary.max());
+            assertEquals(salaries[(int) Math.ceil(0.9 * salaries.length) - 1], salary.percentiles().get("p90"));
+            assertEquals(7, salary.histogram().size());
+            assertEquals(salaries.length, salary.histogram().stream().mapToInt(HistogramBucket::count).sum());
+            for (HistogramBucket bucket : salary.histogram()) {
+                long inBucket = Arrays.stream(salaries)
+                        .filter(value -> value >= bucket.from() && value < bucket.to())
+                        .count();
+                assertEquals(inBucket, bucket.count());
+            }
+        }
+    }
+
+    @Test
+    void histogramHasTheRequestedBucketCountOrOnePerValue() {
+        List<Employee> employees = new ArrayList<>();
+        for (int age = 20; age <= 30; age++) {
+            employees.add(employee(Integer.toString(age * 1000), age, "Engineer"));
+        }
+        RosterDistribution distribution = RosterDistribution.of(EmployeeColumns.of(employees));
+
+        List<HistogramBucket> tenBuckets = distribution.stats(10).all().age().histogram();
+        assertEquals(10, tenBuckets.size());
+        assertEquals(new HistogramBucket(20, 21, 1), tenBuckets.get(0));
+        assertEquals(new HistogramBucket(29, 31, 2), tenBuckets.get(9));
+        assertEquals(11, distribution.stats(20).all().age().histogram().size());
+        assertEquals(3, distribution.stats(3).all().salary().histogram().size());
+        assertEquals(
+                List.of(new HistogramBucket(57000, 57001, 1)),
+                RosterDistribution.of(EmployeeColumns.of(List.of(employee("57000", 54, "Engineer"))))
+                        .stats(10)
+                        .all()
+                        .salary()
+                        .histogram());
+    }
+
+    @Test
+    void snapshotRebuildsStatsAfterWrites() {
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(List.of(employee("57000", 54, "Engineer")), Instant.EPOCH);
+        assertEquals(57000, snapshot.stats(10).all().salary().sum());
+
+        EmployeeSnapshot hired = snapshot.withEmployee(employee("43000", 30, "Engineer"));
+
+        assertEquals(100000, hired.stats(10).all().salary().sum());
+        assertEquals(57000, snapshot.stats(10).all().salary().sum());
+    }
+
+    private static Employee employee(String salary, Integer age, String title) {
+        return new Employee(UUID.randomUUID(), "Employee", salary, age, title, "foo@bar.com");
+    }
+}
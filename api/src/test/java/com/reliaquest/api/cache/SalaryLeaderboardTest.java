@@ -0,0 +1,133 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.SalaryRank;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class SalaryLeaderboardTest {
+
+    @Test
+    void ofOrdersBySalaryDescending() {
+        Employee low = employee("Bob Test", "40000");
+        Employee high = employee("Jane Doe", "99000");
+        Employee mid = employee("John Doe", "57000");
+
+        SalaryLeaderboard leaderboard = SalaryLeaderboard.of(List.of(low, high, mid));
+
+        assertEquals(high, leaderboard.highest());
+        assertEquals(List.of(high, mid, low), leaderboard.top(10));
+        assertEquals(List.of(high, mid), leaderboard.top(2));
+        assertEquals(List.of(), leaderboard.top(0));
+    }
+
+    @Test
+    void ofRejectsMalformedSalary() {
+        List<Employee> employees = List.of(employee("John Doe", "57000"), employee("Jane Doe", "lots"));
+
+        assertThrows(NumberFormatException.class, () -> SalaryLeaderboard.of(employees));
+    }
+
+    @Test
+    void emptyLeaderboardHasNoHighest() {
+        SalaryLeaderboard leaderboard = SalaryLeaderboard.of(List.of());
+
+        assertNull(leaderboard.highest());
+        assertEquals(List.of(), leaderboard.top(1));
+    }
+
+    @Test
+    void rankSharesPlacesBetweenEqualSalaries() {
+        Employee top = employee("Jane Doe", "99000");
+        Employee tiedFirst = employee("John Doe", "57000");
+        Employee tiedSecond = employee("Mary Sue", "57000");
+        Employee bottom = employee("Bob Test", "40000");
+        SalaryLeaderboard leaderboard = SalaryLeaderboard.of(List.of(bottom, tiedFirst, top, tiedSecond));
+
+        assertEquals(new SalaryRank(top.id(), 99000, 1, 4, 87.5), leaderboard.rank(top));
+        assertEquals(new SalaryRank(tiedFirst.id(), 57000, 2, 4, 50.0), leaderboard.rank(tiedFirst));
+        assertEquals(2, leaderboard.rank(tiedSecond).rank());
+        assertEquals(new SalaryRank(bottom.id(), 40000, 4, 4, 12.5), leaderboard.rank(bottom));
+    }
+
+    @Test
+    void patchedLeaderboardMatchesRebuilding() {
+        Random random = new Random(42);
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            roster.add(employee("Employee " + i, Integer.toString(random.nextInt(50) * 1000)));
+        }
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(roster, Instant.parse("2024-01-01T00:00:00Z"));
+        snapshot.salaryLeaderboard();
+
+        for (int i = 0; i < 500; i++) {
+            if (random.nextBoolean() && !roster.isEmpty()) {
+                Employee removed = roster.remove(random.nextInt(roster.size()));
+                snapshot = snapshot.withoutEmployeeNamed(removed.name());
+            } else {
+                Employee added = employee("Hire " + i, Integer.toString(random.nextInt(50) * 1000));
+                roster.add(added);
+                snapshot = snapshot.withEmployee(added);
+            }
+        }
+
+        SalaryLeaderboard patched = snapshot.salaryLeaderboard();
+        assertEquals(roster, snapshot.employees());
+        assertEquals(roster.size(), patched.size());
+        assertEquals(SalaryLeaderboard.of(roster).top(roster.size()), patched.top(roster.size()));
+        assertEquals(
+                roster.stream().mapToInt(Employee::salaryValue).max().orElseThrow(),
+                patched.highest().salaryValue());
+    }
+
+    @Test
+    void topCollectorMatchesLeaderboardInOnePass() {
+        Random random = new Random(11);
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            roster.add(employee("Employee " + i, Integer.toString(random.nextInt(40) * 1000)));
+        }
+        SalaryLeaderboard leaderboard = SalaryLeaderboard.of(roster);
+
+        for (int k : new int[] {0, 1, 10, 299, 300, 500}) {
+            assertEquals(leaderboard.top(k), roster.stream().collect(SalaryLeaderboard.topCollector(k)));
+        }
+        List<Employee> malformed = List.of(employee("John Doe", "57000"), employee("Jane Doe", "lots"));
+        assertThrows(
+                NumberFormatException.class, () -> malformed.stream().collect(SalaryLeaderboard.topCollector(1)));
+    }
+
+    @Test
+    void snapshotPatchesBuiltLeaderboardOnWrites() {
+        Employee john = employee("John Doe", "57000");
+        Employee jane = employee("Jane Doe", "99000");
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(List.of(john), Instant.parse("2024-01-01T00:00:00Z"));
+        snapshot.salaryLeaderboard();
+
+        EmployeeSnapshot hired = snapshot.withEmployee(jane);
+        assertEquals(List.of(jane, john), hired.salaryLeaderboard().top(10));
+        EmployeeSnapshot fired = hired.withoutEmployeeNamed("jane doe");
+        assertEquals(List.of(john), fired.salaryLeaderboard().top(10));
+    }
+
+    @Test
+    void snapshotDefersMalformedSalaryToLeaderboardUse() {
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(
+                List.of(employee("John Doe", "57000")), Instant.parse("2024-01-01T00:00:00Z"));
+        snapshot.salaryLeaderboard();
+
+        EmployeeSnapshot patched = snapshot.withEmployee(employee("Jane Doe", "lots"));
+        assertEquals(2, patched.employees().size());
+        assertThrows(NumberFormatException.class, patched::salaryLeaderboard);
+    }
+
+    private static Employee employee(String name, String salary) {
+        return new Employee(UUID.randomUUID(), name, salary, 54, "Software Engineer", "foo@bar.com");
+    }
+}
@@ -0,0 +1,150 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BatchPipelineTest {
+    static final BiFunction<List<Integer>, Throwable, List<String>> FAILED =
+            (chunk, e) -> Collections.nCopies(chunk.size(), e.getClass().getSimpleName());
+
+    ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void runSplitsItemsIntoChunksAndKeepsInputOrder() {
+        List<List<Integer>> chunks = new CopyOnWriteArrayList<>();
+        BatchPipeline pipeline = new BatchPipeline(3, 4);
+
+        List<String> results = pipeline.run(
+                range(8),
+                chunk -> {
+                    chunks.add(List.copyOf(chunk));
+                    // later chunks finish first
+                    sleepQuietly(10L * (3 - chunk.get(0) / 3));
+                    return chunk.stream().map(i -> "r" + i).toList();
+                },
+                FAILED,
+                executor);
+
+        assertEquals(range(8).stream().map(i -> "r" + i).toList(), results);
+        assertEquals(3, chunks.size());
+        assertTrue(chunks.containsAll(List.of(List.of(0, 1, 2), List.of(3, 4, 5), List.of(6, 7))));
+    }
+
+    @Test
+    void runKeepsAtMostMaxInFlightChunksOutstanding() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxSeen = new AtomicInteger();
+        BatchPipeline pipeline = new BatchPipeline(1, 2);
+
+        List<String> results = pipeline.run(
+                range(12),
+                chunk -> {
+                    maxSeen.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    sleepQuietly(5);
+                    inFlight.decrementAndGet();
+                    return List.of("ok");
+                },
+                FAILED,
+                executor);
+
+        assertEquals(Collections.nCopies(12, "ok"), results);
+        assertTrue(maxSeen.get() <= 2, "saw " + maxSeen.get() + " chunks in flight");
+    }
+
+    @Test
+    void runAnswersOnlyTheFailedChunkThroughOnFailure() {
+        BatchPipeline pipeline = new BatchPipeline(2, 2);
+
+        List<String> results = pipeline.run(
+                range(5),
+                chunk -> {
+                    if (chunk.contains(2)) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return chunk.stream().map(i -> "r" + i).toList();
+                },
+                FAILED,
+                executor);
+
+        assertEquals(List.of("r0", "r1", "IllegalStateException", "IllegalStateException", "r4"), results);
+    }
+
+    @Test
+    void runAnswersRejectedChunksThroughOnFailure() {
+        BatchPipeline pipeline = new BatchPipeline(2, 2);
+
+        List<String> results = pipeline.run(
+                range(4),
+                chunk -> chunk.stream().map(i -> "r" + i).toList(),
+                FAILED,
+                task -> {
+                    throw new RejectedExecutionException("saturated");
+                });
+
+        assertEquals(Collections.nCopies(4, "RejectedExecutionException"), results);
+    }
+
+    @Test
+    void runOnCallingThreadWhenSequential() {
+        Thread caller = Thread.currentThread();
+
+        List<Boolean> results = BatchPipeline.sequential()
+                .run(
+                        range(250),
+                        chunk -> Collections.nCopies(chunk.size(), Thread.currentThread() == caller),
+                        (chunk, e) -> {
+                            throw new AssertionError(e);
+                        },
+                        Runnable::run);
+
+        assertEquals(Collections.nCopies(250, true), results);
+    }
+
+    @Test
+    void runReturnsNothingForEmptyBatch() {
+        List<String> results = new BatchPipeline(2, 2).run(List.of(), chunk -> List.of("unused"), FAILED, executor);
+
+        assertEquals(List.of(), results);
+    }
+
+    @Test
+    void rejectsNonPositiveSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchPipeline(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new BatchPipeline(1, 0));
+    }
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().toList();
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
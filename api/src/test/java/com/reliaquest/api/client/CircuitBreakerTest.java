@@ -0,0 +1,92 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.MutableClock;
+import com.reliaquest.api.exceptions.ExternalApiRateLimitException;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+    MutableClock clock;
+    CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        breaker = new CircuitBreaker(2, Duration.ofSeconds(30), clock);
+    }
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        breaker.onFailure(null);
+        breaker.onSuccess();
+        breaker.onFailure(null);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        breaker.onFailure(null);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertThrows(ExternalApiRateLimitException.class, breaker::beforeCall);
+    }
+
+    @Test
+    void letsOneTrialThroughAfterOpenDuration() {
+        breaker.onFailure(null);
+        breaker.onFailure(null);
+
+        clock.advance(Duration.ofSeconds(30));
+        assertDoesNotThrow(breaker::beforeCall);
+        assertThrows(ExternalApiRateLimitException.class, breaker::beforeCall);
+
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertDoesNotThrow(breaker::beforeCall);
+    }
+
+    @Test
+    void failedTrialReopens() {
+        breaker.onFailure(null);
+        breaker.onFailure(null);
+        clock.advance(Duration.ofSeconds(30));
+        breaker.beforeCall();
+
+        breaker.onFailure(null);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertThrows(ExternalApiRateLimitException.class, breaker::beforeCall);
+    }
+
+    @Test
+    void abandonedTrialFreesSlot() {
+        breaker.onFailure(null);
+        breaker.onFailure(null);
+        clock.advance(Duration.ofSeconds(30));
+        breaker.beforeCall();
+
+        breaker.onAbandoned();
+
+        assertDoesNotThrow(breaker::beforeCall);
+    }
+
+    @Test
+    void staysOpenForLongerRetryAfter() {
+        breaker.onFailure(null);
+        breaker.onFailure(Duration.ofSeconds(60));
+
+        clock.advance(Duration.ofSeconds(30));
+        assertThrows(ExternalApiRateLimitException.class, breaker::beforeCall);
+        clock.advance(Duration.ofSeconds(30));
+        assertDoesNotThrow(breaker::beforeCall);
+    }
+
+    @Test
+    void disabledNeverOpens() {
+        CircuitBreaker disabled = CircuitBreaker.disabled();
+        for (int i = 0; i < 100; i++) {
+            disabled.onFailure(null);
+        }
+        assertDoesNotThrow(disabled::beforeCall);
+    }
+}
@@ -0,0 +1,76 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.models.Employee;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeListReaderTest {
+    static final UUID JOHN = UUID.fromString("5255f1a5-f9f7-4be5-829a-134bde088d17");
+    static final UUID JANE = UUID.fromString("0a4e3f1c-3c46-4b47-9b5b-2f6c8d0c9a21");
+
+    EmployeeListReader reader = new EmployeeListReader(new ObjectMapper());
+
+    @Test
+    void readHandsOverEachEmployeeInOrder() throws IOException {
+        List<Employee> employees = new ArrayList<>();
+        reader.read(
+                json("{\"status\":\"Successfully processed request.\",\"data\":[" + employee(JOHN, "John Doe", "57000")
+                        + "," + employee(JANE, "Jane Doe", "64000") + "]}"),
+                employees::add);
+
+        assertEquals(2, employees.size());
+        assertEquals(JOHN, employees.get(0).id());
+        assertEquals("John Doe", employees.get(0).name());
+        assertEquals(57000, employees.get(0).salaryValue());
+        assertEquals(JANE, employees.get(1).id());
+    }
+
+    @Test
+    void readSkipsOtherFieldsAndNullElements() throws IOException {
+        List<Employee> employees = new ArrayList<>();
+        reader.read(
+                json("{\"meta\":{\"data\":[1,2]},\"data\":[null," + employee(JOHN, "John Doe", "57000")
+                        + "],\"status\":\"ok\"}"),
+                employees::add);
+
+        assertEquals(1, employees.size());
+        assertEquals(JOHN, employees.get(0).id());
+    }
+
+    @Test
+    void readYieldsNothingForEmptyBodyOrMissingData() throws IOException {
+        List<Employee> employees = new ArrayList<>();
+        reader.read(json(""), employees::add);
+        reader.read(json("{\"data\":null,\"status\":\"ok\"}"), employees::add);
+        reader.read(json("{\"status\":\"ok\"}"), employees::add);
+
+        assertTrue(employees.isEmpty());
+    }
+
+    @Test
+    void readBindsEmployeesBeforeTheBodyEnds() {
+        InputStream truncated = json("{\"data\":[" + employee(JOHN, "John Doe", "57000") + "," + "{\"id\":");
+        List<Employee> employees = new ArrayList<>();
+
+        assertThrows(IOException.class, () -> reader.read(truncated, employees::add));
+        assertEquals(1, employees.size());
+    }
+
+    private static String employee(UUID id, String name, String salary) {
+        return "{\"id\":\"" + id + "\",\"employee_name\":\"" + name + "\",\"employee_salary\":\"" + salary
+                + "\",\"employee_age\":54,\"employee_title\":\"Software Engineer\",\"employee_email\":\"foo@bar.com\"}";
+    }
+
+    private static InputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
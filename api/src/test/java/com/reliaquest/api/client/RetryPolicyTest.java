@@ -0,0 +1,90 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+class RetryPolicyTest {
+    RetryPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        policy = new RetryPolicy(3, 2, Duration.ofMillis(100), Duration.ofSeconds(1), 0.2, new Random(42));
+    }
+
+    @Test
+    void nextDelayBacksOffWithJitterUpToMaxDelay() {
+        for (int attempt = 1; attempt <= 2; attempt++) {
+            Duration delay =
+                    policy.nextDelay(UpstreamOperation.GET_ALL_EMPLOYEES, attempt, HttpStatus.BAD_GATEWAY, null);
+            assertNotNull(delay);
+            assertTrue(delay.toMillis() <= 100L << (attempt - 1));
+        }
+        assertNull(policy.nextDelay(UpstreamOperation.GET_ALL_EMPLOYEES, 3, HttpStatus.BAD_GATEWAY, null));
+    }
+
+    @Test
+    void nextDelayRetriesWritesOnlyWhenRateLimited() {
+        assertNull(policy.nextDelay(UpstreamOperation.CREATE_EMPLOYEE, 1, HttpStatus.INTERNAL_SERVER_ERROR, null));
+        assertNull(policy.nextDelay(UpstreamOperation.DELETE_EMPLOYEE, 1, null, null));
+        assertNotNull(policy.nextDelay(UpstreamOperation.DELETE_EMPLOYEE, 1, HttpStatus.TOO_MANY_REQUESTS, null));
+        assertNull(policy.nextDelay(UpstreamOperation.DELETE_EMPLOYEE, 2, HttpStatus.TOO_MANY_REQUESTS, null));
+    }
+
+    @Test
+    void nextDelayDoesNotRetryClientErrors() {
+        assertNull(policy.nextDelay(UpstreamOperation.GET_EMPLOYEE_BY_ID, 1, HttpStatus.NOT_FOUND, null));
+        assertNull(policy.nextDelay(UpstreamOperation.GET_EMPLOYEE_BY_ID, 1, HttpStatus.BAD_REQUEST, null));
+    }
+
+    @Test
+    void nextDelayHonoursRetryAfterWithinMaxDelay() {
+        assertEquals(
+                Duration.ofMillis(500),
+                policy.nextDelay(
+                        UpstreamOperation.GET_ALL_EMPLOYEES, 1, HttpStatus.TOO_MANY_REQUESTS, Duration.ofMillis(500)));
+        assertNull(policy.nextDelay(
+                UpstreamOperation.GET_ALL_EMPLOYEES, 1, HttpStatus.TOO_MANY_REQUESTS, Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void nextDelayStopsRetryingOnceBudgetIsSpent() {
+        for (int i = 0; i < 10; i++) {
+            assertNotNull(policy.nextDelay(UpstreamOperation.GET_ALL_EMPLOYEES, 1, HttpStatus.BAD_GATEWAY, null));
+        }
+        assertNull(policy.nextDelay(UpstreamOperation.GET_ALL_EMPLOYEES, 1, HttpStatus.BAD_GATEWAY, null));
+
+        for (int i = 0; i < 5; i++) {
+            policy.onFirstAttempt();
+        }
+        assertNotNull(policy.nextDelay(UpstreamOperation.GET_ALL_EMPLOYEES, 1, HttpStatus.BAD_GATEWAY, null));
+    }
+
+    @Test
+    void neverDoesNotRetry() {
+        assertNull(RetryPolicy.never()
+                .nextDelay(UpstreamOperation.GET_ALL_EMPLOYEES, 1, HttpStatus.TOO_MANY_REQUESTS, null));
+    }
+
+    @Test
+    void retryAfterParsesSecondsAndDates() {
+        Instant now = Instant.parse("2024-01-01T00:00:00Z");
+        HttpHeaders headers = new HttpHeaders();
+        assertNull(RetryPolicy.retryAfter(headers, now));
+
+        headers.set(HttpHeaders.RETRY_AFTER, "7");
+        assertEquals(Duration.ofSeconds(7), RetryPolicy.retryAfter(headers, now));
+
+        headers.set(HttpHeaders.RETRY_AFTER, "Mon, 1 Jan 2024 00:00:30 GMT");
+        assertEquals(Duration.ofSeconds(30), RetryPolicy.retryAfter(headers, now));
+
+        headers.set(HttpHeaders.RETRY_AFTER, "soon");
+        assertNull(RetryPolicy.retryAfter(headers, now));
+    }
+}
@@ -0,0 +1,129 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+    SingleFlight<String, String> singleFlight;
+    AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = new SingleFlight<>();
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    void runSharesOneCallBetweenConcurrentCallersForSameKey() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> call = () -> {
+            calls.incrementAndGet();
+            awaitQuietly(release);
+            return "result";
+        };
+        List<String> results = new CopyOnWriteArrayList<>();
+        List<Thread> callers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread caller = new Thread(() -> results.add(singleFlight.run("key", call)));
+            caller.start();
+            callers.add(caller);
+            if (i == 0) {
+                awaitInFlight();
+            }
+        }
+        for (Thread caller : callers) {
+            awaitWaiting(caller);
+        }
+        release.countDown();
+        for (Thread caller : callers) {
+            caller.join(5_000);
+        }
+
+        assertEquals(Collections.nCopies(8, "result"), results);
+        assertEquals(1, calls.get());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void runSharesFailureWithWaiters() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> leader = callers.submit(() -> singleFlight.run("key", () -> {
+                calls.incrementAndGet();
+                awaitQuietly(release);
+                throw new IllegalStateException("boom");
+            }));
+            awaitInFlight();
+            AtomicReference<RuntimeException> waiterFailure = new AtomicReference<>();
+            Thread waiter = new Thread(() -> {
+                try {
+                    singleFlight.run("key", () -> "unused");
+                } catch (RuntimeException e) {
+                    waiterFailure.set(e);
+                }
+            });
+            waiter.start();
+            awaitWaiting(waiter);
+            release.countDown();
+            waiter.join(5_000);
+
+            Exception leaderFailure = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, leaderFailure.getCause());
+            assertInstanceOf(IllegalStateException.class, waiterFailure.get());
+        } finally {
+            callers.shutdownNow();
+        }
+        assertEquals(1, calls.get());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void runDoesNotCacheCompletedCalls() {
+        assertEquals("first", singleFlight.run("key", () -> "first"));
+        assertEquals("second", singleFlight.run("key", () -> "second"));
+    }
+
+    @Test
+    void runKeepsDifferentKeysApart() {
+        assertEquals("a", singleFlight.run("a", () -> singleFlight.run("b", () -> "b").replace("b", "a")));
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.inFlight() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(1, singleFlight.inFlight());
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING) {
+            assertTrue(System.nanoTime() < deadline, "caller never blocked");
+            Thread.sleep(1);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.exceptions.ExternalApiRateLimitException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+class UpstreamCallGuardTest {
+    UpstreamCallGuard guard;
+    AutoCloseable closeable;
+    UpstreamRateLimiter.Permit permit = new UpstreamRateLimiter.Permit(Instant.EPOCH, 0);
+
+    @Mock
+    UpstreamRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        guard = new UpstreamCallGuard(rateLimiter);
+        when(rateLimiter.acquire(any())).thenReturn(permit);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+        guard = null;
+    }
+
+    @Test
+    void callReportsSuccess() {
+        assertEquals("ok", guard.call(UpstreamOperation.GET_ALL_EMPLOYEES, () -> "ok"));
+        verify(rateLimiter).acquire(UpstreamRateLimiter.Priority.READ);
+        verify(rateLimiter).onSuccess(permit);
+    }
+
+    @Test
+    void callAcquiresWritePriorityForWrites() {
+        guard.call(UpstreamOperation.CREATE_EMPLOYEE, () -> "ok");
+        verify(rateLimiter).acquire(UpstreamRateLimiter.Priority.WRITE);
+    }
+
+    @Test
+    void callReportsRateLimit() {
+        assertThrows(HttpClientErrorException.class, () -> guard.call(UpstreamOperation.GET_ALL_EMPLOYEES, () -> {
+            throw new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS);
+        }));
+        verify(rateLimiter).onRateLimited(permit, null);
+        verify(rateLimiter, never()).onSuccess(any());
+    }
+
+    @Test
+    void callTreatsOtherErrorResponsesAsAccepted() {
+        assertThrows(HttpClientErrorException.class, () -> guard.call(UpstreamOperation.GET_EMPLOYEE_BY_ID, () -> {
+            throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+        }));
+        verify(rateLimiter).onSuccess(permit);
+        verify(rateLimiter, never()).onRateLimited(any(), any());
+    }
+
+    @Test
+    void callReleasesPermitWhenResponseHandlingFails() {
+        AtomicInteger calls = new AtomicInteger();
+        assertThrows(NumberFormatException.class, () -> guard.call(UpstreamOperation.GET_ALL_EMPLOYEES, () -> {
+            calls.incrementAndGet();
+            throw new NumberFormatException("Malformed salary");
+        }));
+        assertEquals(1, calls.get());
+        verify(rateLimiter).onSuccess(permit);
+    }
+
+    @Test
+    void callDoesNotReachUpstreamWhenBudgetIsExhausted() {
+        when(rateLimiter.acquire(any()))
+                .thenThrow(new ExternalApiRateLimitException("Upstream request budget exhausted"));
+
+        assertThrows(ExternalApiRateLimitException.class, () -> guard.call(UpstreamOperation.GET_ALL_EMPLOYEES, () -> {
+            fail("upstream should not be called");
+            return null;
+        }));
+    }
+
+    @Test
+    void callRetriesServerErrorsForReads() {
+        guard = retryingGuard(CircuitBreaker.disabled());
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = guard.call(UpstreamOperation.GET_ALL_EMPLOYEES, () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, calls.get());
+        verify(rateLimiter, times(3)).acquire(UpstreamRateLimiter.Priority.READ);
+    }
+
+    @Test
+    void callDoesNotRetryServerErrorsForWrites() {
+        guard = retryingGuard(CircuitBreaker.disabled());
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(HttpServerErrorException.class, () -> guard.call(UpstreamOperation.DELETE_EMPLOYEE, () -> {
+            calls.incrementAndGet();
+            throw new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR);
+        }));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void callPassesRetryAfterToRateLimiter() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "60");
+
+        assertThrows(HttpClientErrorException.class, () -> guard.call(UpstreamOperation.GET_ALL_EMPLOYEES, () -> {
+            throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", headers, null, null);
+        }));
+        verify(rateLimiter).onRateLimited(permit, Duration.ofSeconds(60));
+    }
+
+    @Test
+    void callFailsFastWhileCircuitIsOpen() {
+        guard = retryingGuard(new CircuitBreaker(2, Duration.ofMinutes(1)));
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(HttpServerErrorException.class, () -> guard.call(UpstreamOperation.GET_ALL_EMPLOYEES, () -> {
+            calls.incrementAndGet();
+            throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+        }));
+        assertEquals(2, calls.get());
+
+        assertThrows(ExternalApiRateLimitException.class, () -> guard.call(UpstreamOperation.GET_ALL_EMPLOYEES, () -> {
+            calls.incrementAndGet();
+            return "ok";
+        }));
+        assertEquals(2, calls.get());
+    }
+
+    private UpstreamCallGuard retryingGuard(CircuitBreaker circuitBreaker) {
+        RetryPolicy retryPolicy = new RetryPolicy(3, 2, Duration.ofMillis(1), Duration.ofMillis(10), 0.2);
+        return new UpstreamCallGuard(rateLimiter, retryPolicy, circuitBreaker);
+    }
+}
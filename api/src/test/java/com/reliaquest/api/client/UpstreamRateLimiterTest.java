@@ -0,0 +1,157 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.MutableClock;
+import com.reliaquest.api.exceptions.ExternalApiRateLimitException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class UpstreamRateLimiterTest {
+    MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    }
+
+    @Test
+    void acquireFailsFastOnceBudgetIsSpent() {
+        UpstreamRateLimiter limiter = limiter(2, 2);
+
+        limiter.acquire(UpstreamRateLimiter.Priority.READ);
+        limiter.acquire(UpstreamRateLimiter.Priority.READ);
+
+        assertThrows(
+                ExternalApiRateLimitException.class, () -> limiter.acquire(UpstreamRateLimiter.Priority.READ));
+    }
+
+    @Test
+    void acquireRefillsBudgetAfterWindow() {
+        UpstreamRateLimiter limiter = limiter(1, 1);
+
+        limiter.onSuccess(limiter.acquire(UpstreamRateLimiter.Priority.READ));
+        clock.advance(Duration.ofSeconds(30));
+
+        assertDoesNotThrow(() -> limiter.acquire(UpstreamRateLimiter.Priority.READ));
+    }
+
+    @Test
+    void onRateLimitedShrinksBudgetToAcceptedRequests() {
+        UpstreamRateLimiter limiter = limiter(5, 10);
+
+        limiter.onSuccess(limiter.acquire(UpstreamRateLimiter.Priority.READ));
+        limiter.onSuccess(limiter.acquire(UpstreamRateLimiter.Priority.READ));
+        limiter.onRateLimited(limiter.acquire(UpstreamRateLimiter.Priority.READ));
+
+        assertEquals(2, limiter.budget());
+        assertThrows(
+                ExternalApiRateLimitException.class, () -> limiter.acquire(UpstreamRateLimiter.Priority.READ));
+
+        clock.advance(Duration.ofSeconds(30));
+        limiter.onSuccess(limiter.acquire(UpstreamRateLimiter.Priority.READ));
+        limiter.onSuccess(limiter.acquire(UpstreamRateLimiter.Priority.READ));
+        assertThrows(
+                ExternalApiRateLimitException.class, () -> limiter.acquire(UpstreamRateLimiter.Priority.READ));
+
+        clock.advance(Duration.ofSeconds(30));
+        limiter.acquire(UpstreamRateLimiter.Priority.READ);
+        assertEquals(2, limiter.budget());
+    }
+
+    @Test
+    void onRateLimitedRightAfterRefillLengthensWindow() {
+        UpstreamRateLimiter limiter = limiter(1, 1);
+
+        limiter.onSuccess(limiter.acquire(UpstreamRateLimiter.Priority.READ));
+        clock.advance(Duration.ofSeconds(30));
+        limiter.onRateLimited(limiter.acquire(UpstreamRateLimiter.Priority.READ));
+
+        assertEquals(Duration.ofSeconds(45), limiter.window());
+        clock.advance(Duration.ofSeconds(10));
+        assertThrows(
+                ExternalApiRateLimitException.class, () -> limiter.acquire(UpstreamRateLimiter.Priority.READ));
+        clock.advance(Duration.ofSeconds(5));
+        assertDoesNotThrow(() -> limiter.acquire(UpstreamRateLimiter.Priority.READ));
+    }
+
+    @Test
+    void cleanWindowProbesOneMorePermit() {
+        UpstreamRateLimiter limiter = limiter(2, 5);
+
+        limiter.onSuccess(limiter.acquire(UpstreamRateLimiter.Priority.READ));
+        limiter.onSuccess(limiter.acquire(UpstreamRateLimiter.Priority.READ));
+        clock.advance(Duration.ofSeconds(30));
+        limiter.acquire(UpstreamRateLimiter.Priority.READ);
+
+        assertEquals(3, limiter.budget());
+    }
+
+    @Test
+    void acquireWaitsForRefillByTheLimitersClock() throws Exception {
+        UpstreamRateLimiter limiter = new UpstreamRateLimiter(
+                true, 1, 1, Duration.ofMillis(50), Duration.ofMillis(50), Duration.ofMillis(100), clock);
+        limiter.acquire(UpstreamRateLimiter.Priority.READ);
+
+        List<UpstreamRateLimiter.Priority> served = new CopyOnWriteArrayList<>();
+        Thread read = new Thread(() -> served.add(acquired(limiter, UpstreamRateLimiter.Priority.READ)));
+        read.start();
+        // well past the max wait in real time, but the limiter's clock has not moved
+        TimeUnit.MILLISECONDS.sleep(300);
+        assertTrue(read.isAlive());
+        clock.advance(Duration.ofMillis(50));
+        read.join(5000);
+
+        assertEquals(List.of(UpstreamRateLimiter.Priority.READ), served);
+    }
+
+    @Test
+    void writesAreServedBeforeQueuedReads() throws Exception {
+        UpstreamRateLimiter limiter = new UpstreamRateLimiter(
+                true, 1, 1, Duration.ofMillis(300), Duration.ofMillis(300), Duration.ofSeconds(5), Clock.systemUTC());
+        limiter.acquire(UpstreamRateLimiter.Priority.READ);
+
+        List<UpstreamRateLimiter.Priority> served = new CopyOnWriteArrayList<>();
+        Thread read = new Thread(() -> served.add(acquired(limiter, UpstreamRateLimiter.Priority.READ)));
+        Thread write = new Thread(() -> served.add(acquired(limiter, UpstreamRateLimiter.Priority.WRITE)));
+        read.start();
+        TimeUnit.MILLISECONDS.sleep(50);
+        write.start();
+        read.join(5000);
+        write.join(5000);
+
+        assertEquals(List.of(UpstreamRateLimiter.Priority.WRITE, UpstreamRateLimiter.Priority.READ), served);
+    }
+
+    @Test
+    void unlimitedNeverBlocks() {
+        UpstreamRateLimiter limiter = UpstreamRateLimiter.unlimited();
+        for (int i = 0; i < 100; i++) {
+            limiter.onRateLimited(limiter.acquire(UpstreamRateLimiter.Priority.READ));
+        }
+        assertDoesNotThrow(() -> limiter.acquire(UpstreamRateLimiter.Priority.READ));
+    }
+
+    private UpstreamRateLimiter limiter(int initialBudget, int maxBudget) {
+        return new UpstreamRateLimiter(
+                true,
+                initialBudget,
+                maxBudget,
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(90),
+                Duration.ZERO,
+                clock);
+    }
+
+    private static UpstreamRateLimiter.Priority acquired(
+            UpstreamRateLimiter limiter, UpstreamRateLimiter.Priority priority) {
+        limiter.acquire(priority);
+        return priority;
+    }
+}
@@ -0,0 +1,166 @@
+package com.reliaquest.api.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.SnapshotRead;
+import com.reliaquest.api.exceptions.EmployeeValidationError;
+import com.reliaquest.api.exceptions.ExternalApiException;
+import com.reliaquest.api.exceptions.ExternalApiRateLimitException;
+import com.reliaquest.api.models.CreateEmployee;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.services.EmployeeService;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class AsyncEmployeeControllerTest {
+    AsyncEmployeeController employeeController;
+    AutoCloseable closeable;
+
+    @Mock
+    EmployeeService employeeService;
+
+    @Mock
+    ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        closeable = MockitoAnnotations.openMocks(this);
+        employeeController = new AsyncEmployeeController(employeeService, objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        closeable.close();
+        RequestContextHolder.resetRequestAttributes();
+        employeeController = null;
+    }
+
+    @Test
+    void getAllEmployees() {
+        List<Employee> employees = List.of(employee("John Doe", "57000"));
+        SnapshotRead read = new SnapshotRead(
+                new EmployeeSnapshot(employees, Instant.EPOCH), SnapshotRead.Source.CACHE, Duration.ofSeconds(3));
+        when(employeeService.getEmployeeSnapshotAsync()).thenReturn(CompletableFuture.completedFuture(read));
+
+        ResponseEntity<List<Employee>> result = employeeController.getAllEmployees().join();
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(employees, result.getBody());
+        assertEquals("3", result.getHeaders().getFirst(HttpHeaders.AGE));
+        assertEquals("cache", result.getHeaders().getFirst(EmployeeController.SOURCE_HEADER));
+    }
+
+    @Test
+    void getAllEmployeesShouldHandleRateLimitException() {
+        when(employeeService.getEmployeeSnapshotAsync())
+                .thenReturn(CompletableFuture.failedFuture(new ExternalApiRateLimitException("Rate limit exceeded")));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, employeeController.getAllEmployees().join().getStatusCode());
+    }
+
+    @Test
+    void getAllEmployeesShouldHandleSaturatedExecutor() {
+        when(employeeService.getEmployeeSnapshotAsync())
+                .thenReturn(CompletableFuture.failedFuture(new RejectedExecutionException("saturated")));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, employeeController.getAllEmployees().join().getStatusCode());
+    }
+
+    @Test
+    void getEmployeeByIdShouldHandleNotFound() {
+        when(employeeService.getEmployeeByIdAsync("id"))
+                .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        assertEquals(HttpStatus.NOT_FOUND, employeeController.getEmployeeById("id").join().getStatusCode());
+    }
+
+    @Test
+    void getHighestSalaryOfEmployees() {
+        List<Employee> employees = List.of(employee("John Doe", "57000"), employee("Jane Doe", "99000"));
+        when(employeeService.getTopEarnersAsync(1))
+                .thenReturn(CompletableFuture.completedFuture(List.of(employees.get(1))));
+
+        ResponseEntity<Integer> result = employeeController.getHighestSalaryOfEmployees().join();
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(99000, result.getBody());
+    }
+
+    @Test
+    void createEmployee() {
+        Object inputObject = new Object();
+        CreateEmployee createEmployee = new CreateEmployee("John Doe", "57000", 54, "Software Engineer");
+        Employee createdEmployee = employee("John Doe", "57000");
+        when(objectMapper.convertValue(inputObject, CreateEmployee.class)).thenReturn(createEmployee);
+        when(employeeService.createEmployeeAsync(createEmployee))
+                .thenReturn(CompletableFuture.completedFuture(createdEmployee));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRequestURI("/async");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        ResponseEntity<Employee> result = employeeController.createEmployee(inputObject).join();
+
+        assertEquals(HttpStatus.CREATED, result.getStatusCode());
+        assertEquals(URI.create("http://localhost/async/" + createdEmployee.id()), result.getHeaders().getLocation());
+    }
+
+    @Test
+    void createEmployeeShouldHandleValidationError() throws EmployeeValidationError {
+        Object inputObject = new Object();
+        CreateEmployee createEmployee = new CreateEmployee("", "57000", 54, "Software Engineer");
+        when(objectMapper.convertValue(inputObject, CreateEmployee.class)).thenReturn(createEmployee);
+        doThrow(new EmployeeValidationError("Name cannot be null or blank."))
+                .when(employeeService)
+                .validateCreateEmployee(createEmployee);
+
+        assertEquals(HttpStatus.BAD_REQUEST, employeeController.createEmployee(inputObject).join().getStatusCode());
+        verify(employeeService, never()).createEmployeeAsync(any());
+    }
+
+    @Test
+    void deleteEmployeeById() {
+        Employee employee = employee("John Doe", "57000");
+        when(employeeService.getEmployeeByIdAsync("id"))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(employee)));
+        when(employeeService.deleteEmployeeByNameAsync("John Doe")).thenReturn(CompletableFuture.completedFuture(true));
+
+        ResponseEntity<String> result = employeeController.deleteEmployeeById("id").join();
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("John Doe", result.getBody());
+    }
+
+    @Test
+    void deleteEmployeeByIdShouldHandleException() {
+        when(employeeService.getEmployeeByIdAsync("id"))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(employee("John Doe", "57000"))));
+        when(employeeService.deleteEmployeeByNameAsync("John Doe"))
+                .thenReturn(CompletableFuture.failedFuture(new ExternalApiException("Failed to delete employee.")));
+
+        assertEquals(
+                HttpStatus.INTERNAL_SERVER_ERROR,
+                employeeController.deleteEmployeeById("id").join().getStatusCode());
+    }
+
+    private static Employee employee(String name, String salary) {
+        return new Employee(UUID.randomUUID(), name, salary, 54, "Software Engineer", "foo@bar.com");
+    }
+}
@@ -4,24 +4,36 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.SnapshotRead;
 import com.reliaquest.api.exceptions.EmployeeValidationError;
 import com.reliaquest.api.exceptions.ExternalApiException;
 import com.reliaquest.api.exceptions.ExternalApiRateLimitException;
 import com.reliaquest.api.models.CreateEmployee;
 import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeePage;
+import com.reliaquest.api.models.RosterStats;
+import com.reliaquest.api.models.SalaryRank;
 import com.reliaquest.api.services.EmployeeService;
+import java.io.ByteArrayOutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 class EmployeeControllerTest {
     EmployeeController employeeController;
@@ -50,7 +62,7 @@ class EmployeeControllerTest {
         ArrayList<Employee> employees = new ArrayList<>();
         employees.add(new Employee(UUID.randomUUID(), "john", "doe", 26, "IT Technician", "jdoe@test.com"));
 
-        when(employeeService.getAllEmployees()).thenReturn(employees);
+        when(employeeService.getEmployeeSnapshot()).thenReturn(read(employees, SnapshotRead.Source.UPSTREAM, 0));
         @SuppressWarnings({"rawtypes", "Necessary to match interface"})
         ResponseEntity<List> result = employeeController.getAllEmployees();
 
@@ -61,9 +73,24 @@ class EmployeeControllerTest {
         assertEquals(employees.get(0), result.getBody().get(0));
     }
 
+    @Test
+    void getAllEmployeesShouldReportSnapshotAgeAndSource() {
+        List<Employee> employees =
+                List.of(new Employee(UUID.randomUUID(), "john", "doe", 26, "IT Technician", "jdoe@test.com"));
+
+        when(employeeService.getEmployeeSnapshot()).thenReturn(read(employees, SnapshotRead.Source.STALE, 42));
+        @SuppressWarnings({"rawtypes", "Necessary to match interface"})
+        ResponseEntity<List> result = employeeController.getAllEmployees();
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(employees, result.getBody());
+        assertEquals("42", result.getHeaders().getFirst(HttpHeaders.AGE));
+        assertEquals("stale", result.getHeaders().getFirst(EmployeeController.SOURCE_HEADER));
+    }
+
     @Test
     void getAllEmployeesShouldHandleException() {
-        when(employeeService.getAllEmployees()).thenThrow(new ExternalApiException("An error occurred"));
+        when(employeeService.getEmployeeSnapshot()).thenThrow(new ExternalApiException("An error occurred"));
         @SuppressWarnings({"rawtypes", "Necessary to match interface"})
         ResponseEntity<List> result = employeeController.getAllEmployees();
 
@@ -74,7 +101,7 @@ class EmployeeControllerTest {
 
     @Test
     void getAllEmployeesShouldHandleRateLimitException() {
-        when(employeeService.getAllEmployees()).thenThrow(new ExternalApiRateLimitException("An error occurred"));
+        when(employeeService.getEmployeeSnapshot()).thenThrow(new ExternalApiRateLimitException("An error occurred"));
         @SuppressWarnings({"rawtypes", "Necessary to match interface"})
         ResponseEntity<List> result = employeeController.getAllEmployees();
 
@@ -83,6 +110,73 @@ class EmployeeControllerTest {
         assertNull(result.getBody());
     }
 
+    @Test
+    void getEmployeePage() {
+        EmployeePage page = new EmployeePage(
+                List.of(new Employee(UUID.randomUUID(), "john", "123", 26, "IT Technician", "jdoe@test.com")),
+                UUID.randomUUID().toString());
+
+        when(employeeService.getEmployeePage(null, 1)).thenReturn(page);
+        ResponseEntity<EmployeePage> result = employeeController.getEmployeePage(null, 1);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(page, result.getBody());
+    }
+
+    @Test
+    void getEmployeePageRejectsInvalidLimitOrCursor() {
+        when(employeeService.getEmployeePage("bogus", 10)).thenThrow(new IllegalArgumentException("bogus"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, employeeController.getEmployeePage(null, 0).getStatusCode());
+        assertEquals(
+                HttpStatus.BAD_REQUEST,
+                employeeController
+                        .getEmployeePage(null, EmployeeController.MAX_PAGE_SIZE + 1)
+                        .getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, employeeController.getEmployeePage("bogus", 10).getStatusCode());
+    }
+
+    @Test
+    void getEmployeePageShouldHandleRateLimitException() {
+        doThrow(new ExternalApiRateLimitException("An error occurred"))
+                .when(employeeService)
+                .getEmployeePage(null, 100);
+
+        ResponseEntity<EmployeePage> result = employeeController.getEmployeePage(null, 100);
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, result.getStatusCode());
+    }
+
+    @Test
+    void streamEmployeesWritesOneJsonObjectPerLine() throws Exception {
+        List<Employee> employees = List.of(
+                new Employee(UUID.randomUUID(), "john", "123", 26, "IT Technician", "jdoe@test.com"),
+                new Employee(UUID.randomUUID(), "mary", "789", 26, "IT Technician", "mary@test.com"));
+        when(employeeService.getEmployeeSnapshot()).thenReturn(read(employees, SnapshotRead.Source.CACHE, 3));
+        when(objectMapper.writerFor(Employee.class)).thenReturn(new ObjectMapper().writerFor(Employee.class));
+
+        ResponseEntity<StreamingResponseBody> result = employeeController.streamEmployees();
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, result.getHeaders().getContentType());
+        assertEquals("3", result.getHeaders().getFirst(HttpHeaders.AGE));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Objects.requireNonNull(result.getBody()).writeTo(out);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"employee_name\":\"john\""));
+        assertTrue(lines[1].contains("\"employee_name\":\"mary\""));
+    }
+
+    @Test
+    void streamEmployeesShouldHandleRateLimitException() {
+        doThrow(new ExternalApiRateLimitException("An error occurred"))
+                .when(employeeService)
+                .getEmployeeSnapshot();
+
+        ResponseEntity<StreamingResponseBody> result = employeeController.streamEmployees();
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, result.getStatusCode());
+        assertNull(result.getBody());
+    }
+
     @Test
     void getEmployeesByNameSearch() {
         ArrayList<Employee> employees = new ArrayList<>();
@@ -176,8 +270,7 @@ class EmployeeControllerTest {
         employees.add(new Employee(UUID.randomUUID(), "joe", "456", 26, "IT Technician", "jdoe@test.com"));
         employees.add(new Employee(UUID.randomUUID(), "mary", "789", 26, "IT Technician", "jdoe@test.com"));
 
-        when(employeeService.getAllEmployees()).thenReturn(employees);
-        when(employeeService.getNHighestSalaries(1, employees)).thenReturn(Collections.singletonList(employees.get(2)));
+        when(employeeService.getTopEarners(1)).thenReturn(Collections.singletonList(employees.get(2)));
         ResponseEntity<Integer> result = employeeController.getHighestSalaryOfEmployees();
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertEquals(Integer.parseInt(employees.get(2).salary()), result.getBody());
@@ -185,13 +278,7 @@ class EmployeeControllerTest {
 
     @Test
     void getHighestSalaryOfEmployeesHandlesSalaryParseError() {
-        ArrayList<Employee> employees = new ArrayList<>();
-        employees.add(new Employee(UUID.randomUUID(), "john", "123", 26, "IT Technician", "jdoe@test.com"));
-        employees.add(new Employee(UUID.randomUUID(), "joe", "456", 26, "IT Technician", "jdoe@test.com"));
-        employees.add(new Employee(UUID.randomUUID(), "mary", "foo", 26, "IT Technician", "jdoe@test.com"));
-
-        when(employeeService.getAllEmployees()).thenReturn(employees);
-        when(employeeService.getNHighestSalaries(1, employees)).thenReturn(Collections.singletonList(employees.get(2)));
+        doThrow(NumberFormatException.class).when(employeeService).getTopEarners(1);
         ResponseEntity<Integer> result = employeeController.getHighestSalaryOfEmployees();
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatusCode());
         assertNull(result.getBody());
@@ -201,7 +288,7 @@ class EmployeeControllerTest {
     void getHighestSalaryOfEmployeesHandlesDownstreamError() {
         doThrow(new ExternalApiException("An error occurred"))
                 .when(employeeService)
-                .getAllEmployees();
+                .getTopEarners(1);
 
         ResponseEntity<Integer> result = employeeController.getHighestSalaryOfEmployees();
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatusCode());
@@ -212,7 +299,7 @@ class EmployeeControllerTest {
     void getHighestSalaryOfEmployeesHandlesRateLimitException() {
         doThrow(new ExternalApiRateLimitException("An error occurred"))
                 .when(employeeService)
-                .getAllEmployees();
+                .getTopEarners(1);
 
         ResponseEntity<Integer> result = employeeController.getHighestSalaryOfEmployees();
         assertEquals(HttpStatus.TOO_MANY_REQUESTS, result.getStatusCode());
@@ -226,8 +313,7 @@ class EmployeeControllerTest {
         employees.add(new Employee(UUID.randomUUID(), "joe", "456", 26, "IT Technician", "jdoe@test.com"));
         employees.add(new Employee(UUID.randomUUID(), "mary", "789", 26, "IT Technician", "jdoe@test.com"));
 
-        when(employeeService.getAllEmployees()).thenReturn(employees);
-        when(employeeService.getNHighestSalaries(10, employees)).thenReturn(employees);
+        when(employeeService.getTopEarners(10)).thenReturn(employees);
         ResponseEntity<List<String>> result = employeeController.getTopTenHighestEarningEmployeeNames();
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertEquals(employees.size(), Objects.requireNonNull(result.getBody()).size());
@@ -238,13 +324,7 @@ class EmployeeControllerTest {
 
     @Test
     void getTopTenHighestEarningEmployeeNamesHandlesSalaryParseError() {
-        ArrayList<Employee> employees = new ArrayList<>();
-        employees.add(new Employee(UUID.randomUUID(), "john", "123", 26, "IT Technician", "jdoe@test.com"));
-        employees.add(new Employee(UUID.randomUUID(), "joe", "456", 26, "IT Technician", "jdoe@test.com"));
-        employees.add(new Employee(UUID.randomUUID(), "mary", "foo", 26, "IT Technician", "jdoe@test.com"));
-
-        when(employeeService.getAllEmployees()).thenReturn(employees);
-        doThrow(NumberFormatException.class).when(employeeService).getNHighestSalaries(10, employees);
+        doThrow(NumberFormatException.class).when(employeeService).getTopEarners(10);
         ResponseEntity<List<String>> result = employeeController.getTopTenHighestEarningEmployeeNames();
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatusCode());
         assertNull(result.getBody());
@@ -254,13 +334,81 @@ class EmployeeControllerTest {
     void getTopTenHighestEarningEmployeeNamesShouldHandleRateLimitException() {
         doThrow(new ExternalApiRateLimitException("An error occurred"))
                 .when(employeeService)
-                .getAllEmployees();
+                .getTopEarners(10);
 
         ResponseEntity<List<String>> result = employeeController.getTopTenHighestEarningEmployeeNames();
         assertEquals(HttpStatus.TOO_MANY_REQUESTS, result.getStatusCode());
         assertNull(result.getBody());
     }
 
+    @Test
+    void getTopEarners() {
+        List<Employee> employees =
+                List.of(new Employee(UUID.randomUUID(), "mary", "789", 26, "IT Technician", "jdoe@test.com"));
+
+        when(employeeService.getTopEarners(25)).thenReturn(employees);
+        ResponseEntity<List<Employee>> result = employeeController.getTopEarners(25);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(employees, result.getBody());
+    }
+
+    @Test
+    void getTopEarnersRejectsNonPositiveLimit() {
+        ResponseEntity<List<Employee>> result = employeeController.getTopEarners(0);
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void getSalaryRank() {
+        UUID id = UUID.randomUUID();
+        SalaryRank rank = new SalaryRank(id, 789, 1, 3, 83.3);
+
+        when(employeeService.getSalaryRank(id.toString())).thenReturn(Optional.of(rank));
+        ResponseEntity<SalaryRank> result = employeeController.getSalaryRank(id.toString());
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(rank, result.getBody());
+    }
+
+    @Test
+    void getSalaryRankShouldHandleUnknownEmployee() {
+        when(employeeService.getSalaryRank("missing")).thenReturn(Optional.empty());
+        ResponseEntity<SalaryRank> result = employeeController.getSalaryRank("missing");
+        assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
+    }
+
+    @Test
+    void getSalaryRankShouldHandleRateLimitException() {
+        doThrow(new ExternalApiRateLimitException("An error occurred"))
+                .when(employeeService)
+                .getSalaryRank("id");
+
+        ResponseEntity<SalaryRank> result = employeeController.getSalaryRank("id");
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, result.getStatusCode());
+    }
+
+    @Test
+    void getRosterStats() {
+        RosterStats stats = new EmployeeSnapshot(
+                        List.of(new Employee(UUID.randomUUID(), "mary", "789", 26, "IT Technician", "jdoe@test.com")),
+                        Instant.EPOCH)
+                .stats(5);
+
+        when(employeeService.getRosterStats(5)).thenReturn(stats);
+        ResponseEntity<RosterStats> result = employeeController.getRosterStats(5);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(stats, result.getBody());
+    }
+
+    @Test
+    void getRosterStatsRejectsBucketCountOutOfRange() {
+        assertEquals(HttpStatus.BAD_REQUEST, employeeController.getRosterStats(0).getStatusCode());
+        assertEquals(
+                HttpStatus.BAD_REQUEST,
+                employeeController.getRosterStats(EmployeeController.MAX_HISTOGRAM_BUCKETS + 1).getStatusCode());
+        verifyNoInteractions(employeeService);
+    }
+
     @Test
     void createEmployee() {
         Object inputObject = new Object() {};
@@ -425,4 +573,8 @@ class EmployeeControllerTest {
         assertEquals(HttpStatus.TOO_MANY_REQUESTS, result.getStatusCode());
         assertNull(result.getBody());
     }
+
+    private static SnapshotRead read(List<Employee> employees, SnapshotRead.Source source, long ageSeconds) {
+        return new SnapshotRead(new EmployeeSnapshot(employees, Instant.EPOCH), source, Duration.ofSeconds(ageSeconds));
+    }
 }
@@ -0,0 +1,77 @@
+package com.reliaquest.api.models;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeTest {
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void salaryIsDecodedOnDeserializationAndKeptAsStringOnTheWire() throws Exception {
+        UUID id = UUID.randomUUID();
+        String json = "{\"id\":\"" + id + "\",\"employee_name\":\"John Doe\",\"employee_salary\":\"57000\","
+                + "\"employee_age\":54,\"employee_title\":\"Software Engineer\",\"employee_email\":\"foo@bar.com\"}";
+
+        Employee employee = objectMapper.readValue(json, Employee.class);
+        assertEquals("57000", employee.salary());
+        assertEquals(57000, employee.salaryValue());
+        assertTrue(employee.hasValidSalary());
+
+        JsonNode written = objectMapper.readTree(objectMapper.writeValueAsString(employee));
+        assertEquals("57000", written.get("employee_salary").asText());
+        assertFalse(written.has("salaryValue"));
+        assertFalse(written.has("validSalary"));
+        assertEquals(employee, objectMapper.readValue(written.toString(), Employee.class));
+    }
+
+    @Test
+    void malformedSalaryIsFlagged() {
+        Employee employee = new Employee(UUID.randomUUID(), "John Doe", "foo", 54, "Software Engineer", "foo@bar.com");
+
+        assertFalse(employee.hasValidSalary());
+        assertEquals(Employee.MALFORMED_SALARY, employee.salaryValue());
+        assertFalse(new Employee(UUID.randomUUID(), "John Doe", null, 54, "Software Engineer", "foo@bar.com")
+                .hasValidSalary());
+    }
+
+    @Test
+    void salaryIsDecodedLikeParseInt() {
+        for (String salary : List.of("57000", "+57000", "-1", "0057000", "2147483647")) {
+            assertEquals(Integer.parseInt(salary), employee(salary).salaryValue(), salary);
+        }
+        for (String salary : List.of("", "-", "+", " 57000", "57,000", "57000.0", "2147483648", "99999999999")) {
+            assertFalse(employee(salary).hasValidSalary(), salary);
+        }
+    }
+
+    @Test
+    void salaryOfTheMalformedMarkerIsRejectedWithItsRange() {
+        Employee employee = employee(Integer.toString(Integer.MIN_VALUE));
+
+        assertFalse(employee.hasValidSalary());
+        assertTrue(employee(Integer.toString(Integer.MIN_VALUE + 1)).hasValidSalary());
+        assertEquals(
+                "Malformed salary \"-2147483648\" for employee null; salaries are integers from -2147483647 to "
+                        + "2147483647",
+                employee.malformedSalary().getMessage());
+    }
+
+    @Test
+    void canonicalConstructorKeepsTheDecodedSalaryItIsGiven() {
+        UUID id = UUID.randomUUID();
+        Employee decoded = new Employee(id, "John Doe", "057000", 54, "Software Engineer", "foo@bar.com");
+
+        assertEquals(
+                decoded,
+                new Employee(id, "John Doe", "057000", 54, "Software Engineer", "foo@bar.com", decoded.salaryValue()));
+    }
+
+    private static Employee employee(String salary) {
+        return new Employee(null, "John Doe", salary, 54, "Software Engineer", "foo@bar.com");
+    }
+}
@@ -3,32 +3,69 @@ package com.reliaquest.api.services;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeeIdCache;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.cache.ParallelScan;
+import com.reliaquest.api.client.BatchPipeline;
+import com.reliaquest.api.client.EmployeeListReader;
+import com.reliaquest.api.client.UpstreamCallGuard;
 import com.reliaquest.api.exceptions.EmployeeValidationError;
 import com.reliaquest.api.exceptions.ExternalApiException;
 import com.reliaquest.api.exceptions.ExternalApiRateLimitException;
+import com.reliaquest.api.models.BatchItem;
+import com.reliaquest.api.models.BatchResponse;
 import com.reliaquest.api.models.CreateEmployee;
 import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.EmployeeChange;
+import com.reliaquest.api.models.EmployeeChanges;
+import com.reliaquest.api.models.EmployeeChangesResponse;
 import com.reliaquest.api.models.EmployeeListResponse;
+import com.reliaquest.api.models.EmployeePage;
 import com.reliaquest.api.models.EmployeeResponse;
+import com.reliaquest.api.models.RosterStats;
+import com.reliaquest.api.models.SalaryRank;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 @SuppressWarnings({"unchecked", "restTemplate requires ParameterizedTypeReference"})
 class EmployeeServiceTest {
+    static final ObjectMapper JSON = new ObjectMapper();
+
     EmployeeService employeeService;
     AutoCloseable closeable;
 
@@ -47,22 +84,117 @@ class EmployeeServiceTest {
         employeeService = null;
     }
 
+    void stubEmployeeList(EmployeeListResponse body) {
+        doAnswer(invocation -> extract(invocation, body))
+                .when(restTemplate)
+                .execute(eq("testEndpoint"), eq(HttpMethod.GET), any(), any());
+    }
+
+    static Object extract(InvocationOnMock invocation, EmployeeListResponse body) throws IOException {
+        return extract(invocation, HttpStatus.OK, new HttpHeaders(), body);
+    }
+
+    static Object extract(
+            InvocationOnMock invocation, HttpStatus status, HttpHeaders headers, EmployeeListResponse body)
+            throws IOException {
+        ClientHttpResponse response = mock(ClientHttpResponse.class);
+        byte[] json = body != null ? JSON.writeValueAsBytes(body) : new byte[0];
+        when(response.getStatusCode()).thenReturn(status);
+        when(response.getHeaders()).thenReturn(headers);
+        when(response.getBody()).thenReturn(new ByteArrayInputStream(json));
+        ResponseExtractor<?> extractor = invocation.getArgument(3);
+        return extractor.extractData(response);
+    }
+
+    EmployeeService cachingEmployeeService() {
+        return new EmployeeService(
+                "testEndpoint",
+                restTemplate,
+                new EmployeeListReader(JSON),
+                new EmployeeSnapshotCache(Duration.ofMinutes(1), Duration.ZERO, Duration.ZERO, false),
+                new EmployeeIdCache(100, Duration.ofMinutes(1), Duration.ofMinutes(1)),
+                UpstreamCallGuard.unguarded(),
+                Runnable::run,
+                ParallelScan.sequential(),
+                BatchPipeline.sequential());
+    }
+
     @Test
     void getAllEmployees() {
         List<Employee> employees = List.of();
         EmployeeListResponse body = new EmployeeListResponse(employees);
-        when(restTemplate.exchange(
-                        eq("testEndpoint"), eq(HttpMethod.GET), eq(null), any(ParameterizedTypeReference.class)))
-                .thenReturn(ResponseEntity.ok(body));
+        stubEmployeeList(body);
         List<Employee> response = employeeService.getAllEmployees();
         assertEquals(employees, response);
     }
 
+    @Test
+    void getAllEmployeesShouldCoalesceConcurrentUpstreamReads() throws Exception {
+        List<Employee> employees =
+                List.of(new Employee(UUID.randomUUID(), "John Doe", "57000", 54, "Software Engineer", "foo@bar.com"));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(restTemplate.execute(eq("testEndpoint"), eq(HttpMethod.GET), any(), any()))
+                .thenAnswer(invocation -> {
+                    entered.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return extract(invocation, new EmployeeListResponse(employees));
+                });
+
+        List<List<Employee>> results = new CopyOnWriteArrayList<>();
+        List<Thread> callers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Thread caller = new Thread(() -> results.add(employeeService.getAllEmployees()));
+            caller.start();
+            callers.add(caller);
+            if (i == 0) {
+                assertTrue(entered.await(5, TimeUnit.SECONDS));
+            }
+        }
+        for (Thread caller : callers) {
+            while (caller.getState() != Thread.State.WAITING && caller.getState() != Thread.State.TIMED_WAITING) {
+                Thread.sleep(1);
+            }
+        }
+        release.countDown();
+        for (Thread caller : callers) {
+            caller.join(5_000);
+        }
+
+        assertEquals(Collections.nCopies(10, employees), results);
+        verify(restTemplate, times(1))
+                .execute(eq("testEndpoint"), eq(HttpMethod.GET), any(), any());
+    }
+
+    @Test
+    void getEmployeePageFollowsCursorToTheEnd() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            employees.add(
+                    new Employee(UUID.randomUUID(), "Employee " + i, "57000", 54, "Software Engineer", "foo@bar.com"));
+        }
+        stubEmployeeList(new EmployeeListResponse(employees));
+
+        List<Employee> seen = new ArrayList<>();
+        EmployeePage page = employeeService.getEmployeePage(null, 2);
+        seen.addAll(page.data());
+        while (page.next() != null) {
+            page = employeeService.getEmployeePage(page.next(), 2);
+            seen.addAll(page.data());
+        }
+
+        assertEquals(employees.stream().sorted(Comparator.comparing(Employee::id)).toList(), seen);
+    }
+
+    @Test
+    void getEmployeePageRejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployeePage("not-a-uuid", 2));
+        assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployeePage(null, 0));
+    }
+
     @Test
     void getAllEmployeesShouldHandleNull() {
-        when(restTemplate.exchange(
-                        eq("testEndpoint"), eq(HttpMethod.GET), eq(null), any(ParameterizedTypeReference.class)))
-                .thenReturn(ResponseEntity.ok(null));
+        stubEmployeeList(null);
         List<Employee> result = employeeService.getAllEmployees();
         assertEquals(0, result.size());
     }
@@ -71,7 +203,7 @@ class EmployeeServiceTest {
     void getAllEmployeesShouldHandleNon200() {
         doThrow(new HttpClientErrorException(HttpStatus.BAD_GATEWAY))
                 .when(restTemplate)
-                .exchange(eq("testEndpoint"), eq(HttpMethod.GET), eq(null), any(ParameterizedTypeReference.class));
+                .execute(eq("testEndpoint"), eq(HttpMethod.GET), any(), any());
         ExternalApiException exception =
                 assertThrows(ExternalApiException.class, () -> employeeService.getAllEmployees());
         assertEquals("Failed to retrieve employees", exception.getMessage());
@@ -81,7 +213,7 @@ class EmployeeServiceTest {
     void getAllEmployeesShouldHandleRateLimit() {
         doThrow(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS))
                 .when(restTemplate)
-                .exchange(eq("testEndpoint"), eq(HttpMethod.GET), eq(null), any(ParameterizedTypeReference.class));
+                .execute(eq("testEndpoint"), eq(HttpMethod.GET), any(), any());
         ExternalApiRateLimitException exception =
                 assertThrows(ExternalApiRateLimitException.class, () -> employeeService.getAllEmployees());
         assertEquals("Failed to retrieve employees. Rate limit exceeded", exception.getMessage());
@@ -107,9 +239,7 @@ class EmployeeServiceTest {
         employees.add(employee5);
         EmployeeListResponse body = new EmployeeListResponse(employees);
 
-        when(restTemplate.exchange(
-                        eq("testEndpoint"), eq(HttpMethod.GET), eq(null), any(ParameterizedTypeReference.class)))
-                .thenReturn(ResponseEntity.ok(body));
+        stubEmployeeList(body);
 
         List<Employee> response = employeeService.getEmployeesByNameSearch("Test");
         assertEquals(2, response.size());
@@ -126,9 +256,7 @@ class EmployeeServiceTest {
 
         EmployeeListResponse body = new EmployeeListResponse(employees);
 
-        when(restTemplate.exchange(
-                        eq("testEndpoint"), eq(HttpMethod.GET), eq(null), any(ParameterizedTypeReference.class)))
-                .thenReturn(ResponseEntity.ok(body));
+        stubEmployeeList(body);
 
         List<Employee> response = employeeService.getEmployeesByNameSearch("Test");
         assertEquals(0, response.size());
@@ -143,9 +271,7 @@ class EmployeeServiceTest {
 
         EmployeeListResponse body = new EmployeeListResponse(employees);
 
-        when(restTemplate.exchange(
-                        eq("testEndpoint"), eq(HttpMethod.GET), eq(null), any(ParameterizedTypeReference.class)))
-                .thenReturn(ResponseEntity.ok(body));
+        stubEmployeeList(body);
 
         List<Employee> response = employeeService.getEmployeesByNameSearch("John Doe");
         assertEquals(employees.get(0), response.get(0));
@@ -156,9 +282,7 @@ class EmployeeServiceTest {
 
         body = new EmployeeListResponse(employees);
 
-        when(restTemplate.exchange(
-                        eq("testEndpoint"), eq(HttpMethod.GET), eq(null), any(ParameterizedTypeReference.class)))
-                .thenReturn(ResponseEntity.ok(body));
+        stubEmployeeList(body);
 
         response = employeeService.getEmployeesByNameSearch("John Doe");
         assertEquals(employees.get(0), response.get(0));
@@ -173,9 +297,7 @@ class EmployeeServiceTest {
 
         EmployeeListResponse body = new EmployeeListResponse(employees);
 
-        when(restTemplate.exchange(
-                        eq("testEndpoint"), eq(HttpMethod.GET), eq(null), any(ParameterizedTypeReference.class)))
-                .thenReturn(ResponseEntity.ok(body));
+        stubEmployeeList(body);
 
         List<Employee> response = employeeService.getEmployeesByNameSearch("sh tw");
         assertEquals(employees.get(0), response.get(0));
@@ -237,6 +359,209 @@ class EmployeeServiceTest {
         assertEquals("Failed to retrieve employee", exception.getMessage());
     }
 
+    @Test
+    void getEmployeeByIdShouldTreatNotFoundAsEmpty() {
+        UUID id = UUID.randomUUID();
+        doThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND))
+                .when(restTemplate)
+                .exchange(
+                        eq("testEndpoint/" + id), eq(HttpMethod.GET), eq(null), any(ParameterizedTypeReference.class));
+        Optional<Employee> result = employeeService.getEmployeeById(id.toString());
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void getEmployeeByIdShouldServeRepeatLookupsFromCache() {
+        employeeService = cachingEmployeeService();
+        UUID id = UUID.randomUUID();
+        Employee employee = new Employee(id, "John Doe", "57000", 54, "Software Engineer", "foo@bar.com");
+        when(restTemplate.exchange(
+                        eq("testEndpoint/" + id), eq(HttpMethod.GET), eq(null), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new EmployeeResponse(employee)));
+
+        assertEquals(employee, employeeService.getEmployeeById(id.toString()).orElseThrow());
+        assertEquals(employee, employeeService.getEmployeeById(id.toString()).orElseThrow());
+        verify(restTemplate, times(1))
+                .exchange(
+                        eq("testEndpoint/" + id), eq(HttpMethod.GET), eq(null), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void getEmployeeByIdShouldCacheNotFound() {
+        employeeService = cachingEmployeeService();
+        UUID id = UUID.randomUUID();
+        doThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND))
+                .when(restTemplate)
+                .exchange(
+                        eq("testEndpoint/" + id), eq(HttpMethod.GET), eq(null), any(ParameterizedTypeReference.class));
+
+        assertTrue(employeeService.getEmployeeById(id.toString()).isEmpty());
+        assertTrue(employeeService.getEmployeeById(id.toString()).isEmpty());
+        verify(restTemplate, times(1))
+                .exchange(
+                        eq("testEndpoint/" + id), eq(HttpMethod.GET), eq(null), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void getEmployeeByIdShouldFillFromCachedSnapshot() {
+        employeeService = cachingEmployeeService();
+        UUID id = UUID.randomUUID();
+        Employee employee = new Employee(id, "John Doe", "57000", 54, "Software Engineer", "foo@bar.com");
+        stubEmployeeList(new EmployeeListResponse(List.of(employee)));
+
+        employeeService.getAllEmployees();
+
+        assertEquals(employee, employeeService.getEmployeeById(id.toString()).orElseThrow());
+        verify(restTemplate, never())
+                .exchange(
+                        eq("testEndpoint/" + id), eq(HttpMethod.GET), eq(null), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void getAllEmployeesAsync() {
+        List<Employee> employees =
+                List.of(new Employee(UUID.randomUUID(), "John Doe", "57000", 54, "Software Engineer", "foo@bar.com"));
+        stubEmployeeList(new EmployeeListResponse(employees));
+
+        assertEquals(employees, employeeService.getAllEmployeesAsync().join());
+    }
+
+    @Test
+    void getAllEmployeesShouldRevalidateExpiredRosterWithETag() throws Exception {
+        employeeService = new EmployeeService(
+                "testEndpoint",
+                restTemplate,
+                new EmployeeListReader(JSON),
+                new EmployeeSnapshotCache(Duration.ofMillis(1), Duration.ZERO, Duration.ZERO, false),
+                EmployeeIdCache.disabled(),
+                UpstreamCallGuard.unguarded(),
+                Runnable::run,
+                ParallelScan.sequential(),
+                BatchPipeline.sequential());
+        List<Employee> employees =
+                List.of(new Employee(UUID.randomUUID(), "John Doe", "57000", 54, "Software Engineer", "foo@bar.com"));
+        List<String> sentETags = new ArrayList<>();
+        when(restTemplate.execute(eq("testEndpoint"), eq(HttpMethod.GET), any(), any()))
+                .thenAnswer(invocation -> {
+                    ClientHttpRequest request = mock(ClientHttpRequest.class);
+                    HttpHeaders requestHeaders = new HttpHeaders();
+                    when(request.getHeaders()).thenReturn(requestHeaders);
+                    ((RequestCallback) invocation.getArgument(2)).doWithRequest(request);
+                    String ifNoneMatch = requestHeaders.getFirst(HttpHeaders.IF_NONE_MATCH);
+                    sentETags.add(ifNoneMatch);
+                    HttpHeaders responseHeaders = new HttpHeaders();
+                    responseHeaders.setETag("\"v1\"");
+                    return ifNoneMatch == null
+                            ? extract(invocation, HttpStatus.OK, responseHeaders, new EmployeeListResponse(employees))
+                            : extract(invocation, HttpStatus.NOT_MODIFIED, responseHeaders, null);
+                });
+
+        assertEquals(employees, employeeService.getAllEmployees());
+        Thread.sleep(5);
+        assertEquals(employees, employeeService.getAllEmployees());
+        assertEquals(Arrays.asList(null, "\"v1\""), sentETags);
+    }
+
+    @Test
+    void getAllEmployeesShouldCatchUpThroughChangeFeed() throws Exception {
+        employeeService = new EmployeeService(
+                "testEndpoint",
+                restTemplate,
+                new EmployeeListReader(JSON),
+                new EmployeeSnapshotCache(Duration.ofMillis(1), Duration.ZERO, Duration.ZERO, false),
+                EmployeeIdCache.disabled(),
+                UpstreamCallGuard.unguarded(),
+                Runnable::run,
+                ParallelScan.sequential(),
+                BatchPipeline.sequential());
+        Employee john = new Employee(UUID.randomUUID(), "John Doe", "57000", 54, "Software Engineer", "foo@bar.com");
+        Employee jane = new Employee(UUID.randomUUID(), "Jane Doe", "99000", 41, "Engineering Manager", "bar@baz.com");
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Roster-Epoch", "e1");
+        headers.set("X-Roster-Version", "1");
+        when(restTemplate.execute(eq("testEndpoint"), eq(HttpMethod.GET), any(), any()))
+                .thenAnswer(invocation ->
+                        extract(invocation, HttpStatus.OK, headers, new EmployeeListResponse(List.of(john))));
+        when(restTemplate.exchange(
+                        eq("testEndpoint/changes?epoch={epoch}&since={since}"),
+                        eq(HttpMethod.GET),
+                        eq(null),
+                        any(ParameterizedTypeReference.class),
+                        eq("e1"),
+                        eq(1L)))
+                .thenReturn(ResponseEntity.ok(new EmployeeChangesResponse(new EmployeeChanges(
+                        "e1", 2, List.of(new EmployeeChange(2, EmployeeChange.Type.CREATED, jane))))));
+
+        assertEquals(List.of(john), employeeService.getAllEmployees());
+        Thread.sleep(5);
+        assertEquals(List.of(john, jane), employeeService.getAllEmployees());
+        verify(restTemplate, times(1)).execute(eq("testEndpoint"), eq(HttpMethod.GET), any(), any());
+    }
+
+    @Test
+    void getAllEmployeesAsyncShouldCompleteExceptionallyOnRateLimit() {
+        when(restTemplate.execute(eq("testEndpoint"), eq(HttpMethod.GET), any(), any()))
+                .thenThrow(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS));
+
+        CompletionException exception =
+                assertThrows(CompletionException.class, () -> employeeService.getAllEmployeesAsync().join());
+        assertInstanceOf(ExternalApiRateLimitException.class, exception.getCause());
+    }
+
+    @Test
+    void getEmployeeByIdAsyncShouldAnswerFromCacheWithoutUpstreamThread() {
+        List<Runnable> upstreamTasks = new ArrayList<>();
+        employeeService = new EmployeeService(
+                "testEndpoint",
+                restTemplate,
+                new EmployeeListReader(JSON),
+                new EmployeeSnapshotCache(Duration.ofMinutes(1), Duration.ZERO, Duration.ZERO, false),
+                new EmployeeIdCache(100, Duration.ofMinutes(1), Duration.ofMinutes(1)),
+                UpstreamCallGuard.unguarded(),
+                upstreamTasks::add,
+                ParallelScan.sequential(),
+                BatchPipeline.sequential());
+        UUID id = UUID.randomUUID();
+        Employee employee = new Employee(id, "John Doe", "57000", 54, "Software Engineer", "foo@bar.com");
+        when(restTemplate.exchange(
+                        eq("testEndpoint/" + id), eq(HttpMethod.GET), eq(null), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new EmployeeResponse(employee)));
+
+        CompletableFuture<Optional<Employee>> first = employeeService.getEmployeeByIdAsync(id.toString());
+        assertFalse(first.isDone());
+        assertEquals(1, upstreamTasks.size());
+        upstreamTasks.get(0).run();
+        assertEquals(employee, first.join().orElseThrow());
+
+        CompletableFuture<Optional<Employee>> second = employeeService.getEmployeeByIdAsync(id.toString());
+        assertTrue(second.isDone());
+        assertEquals(employee, second.join().orElseThrow());
+        assertEquals(1, upstreamTasks.size());
+    }
+
+    @Test
+    void createEmployeeAsyncShouldCompleteExceptionallyWhenExecutorIsSaturated() {
+        employeeService = new EmployeeService(
+                "testEndpoint",
+                restTemplate,
+                new EmployeeListReader(JSON),
+                EmployeeSnapshotCache.disabled(),
+                EmployeeIdCache.disabled(),
+                UpstreamCallGuard.unguarded(),
+                task -> {
+                    throw new RejectedExecutionException("saturated");
+                },
+                ParallelScan.sequential(),
+                BatchPipeline.sequential());
+
+        CompletionException exception = assertThrows(
+                CompletionException.class,
+                () -> employeeService
+                        .createEmployeeAsync(new CreateEmployee("John Doe", "57000", 54, "Software Engineer"))
+                        .join());
+        assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+    }
+
     @Test
     void getNHighestSalaries() {
         List<Employee> employees = new ArrayList<>();
@@ -323,6 +648,90 @@ class EmployeeServiceTest {
         assertThrows(NumberFormatException.class, () -> employeeService.getNHighestSalaries(2, employees));
     }
 
+    @Test
+    void getNHighestSalariesShouldReportMalformedSalaryUpFront() {
+        Employee malformed = new Employee(UUID.randomUUID(), "John Doe", "foo", 54, "Software Engineer", "foo@bar.com");
+
+        NumberFormatException exception = assertThrows(
+                NumberFormatException.class, () -> employeeService.getNHighestSalaries(1, List.of(malformed)));
+        assertTrue(exception.getMessage().contains(malformed.id().toString()));
+    }
+
+    @Test
+    void getNHighestSalariesShouldHandleTiesAndNegativeSalaries() {
+        Employee low = new Employee(UUID.randomUUID(), "John Doe", "-5", 54, "Software Engineer", "foo@bar.com");
+        Employee first = new Employee(UUID.randomUUID(), "Jane Doe", "100", 54, "Software Engineer", "foo@bar.com");
+        Employee second = new Employee(UUID.randomUUID(), "Bob Test", "100", 54, "Software Engineer", "foo@bar.com");
+
+        List<Employee> response = employeeService.getNHighestSalaries(3, List.of(low, first, second));
+        assertEquals(3, response.size());
+        assertEquals(Set.of(first, second), Set.copyOf(response.subList(0, 2)));
+        assertEquals(low, response.get(2));
+    }
+
+    @Test
+    void getTopEarnersShouldRankTheCachedRosterAcrossWrites() {
+        employeeService = cachingEmployeeService();
+        Employee jane = new Employee(UUID.randomUUID(), "Jane Doe", "64000", 41, "Software Engineer", "jane@bar.com");
+        Employee john = new Employee(UUID.randomUUID(), "John Doe", "57000", 54, "Software Engineer", "foo@bar.com");
+        Employee mary = new Employee(UUID.randomUUID(), "Mary Sue", "99000", 36, "Engineering Manager", "m@bar.com");
+        stubEmployeeList(new EmployeeListResponse(List.of(john, jane)));
+        when(restTemplate.exchange(
+                        eq("testEndpoint"),
+                        eq(HttpMethod.POST),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new EmployeeResponse(mary)));
+
+        assertEquals(List.of(jane, john), employeeService.getTopEarners(10));
+        employeeService.createEmployee(new CreateEmployee("Mary Sue", "99000", 36, "Engineering Manager"));
+
+        assertEquals(List.of(mary), employeeService.getTopEarners(1));
+        SalaryRank rank = employeeService.getSalaryRank(john.id().toString()).orElseThrow();
+        assertEquals(3, rank.rank());
+        assertEquals(3, rank.total());
+        verify(restTemplate, times(1))
+                .execute(eq("testEndpoint"), eq(HttpMethod.GET), any(), any());
+    }
+
+    @Test
+    void getTopEarnersShouldReportMalformedSalary() {
+        Employee broken = new Employee(UUID.randomUUID(), "John Doe", "foo", 54, "Software Engineer", "foo@bar.com");
+        stubEmployeeList(new EmployeeListResponse(List.of(broken)));
+
+        assertThrows(NumberFormatException.class, () -> employeeService.getTopEarners(1));
+    }
+
+    @Test
+    void getRosterStatsShouldAggregateTheCachedRosterAcrossWrites() {
+        employeeService = cachingEmployeeService();
+        Employee jane = new Employee(UUID.randomUUID(), "Jane Doe", "64000", 41, "Software Engineer", "jane@bar.com");
+        Employee john = new Employee(UUID.randomUUID(), "John Doe", "57000", 54, "Software Engineer", "foo@bar.com");
+        stubEmployeeList(new EmployeeListResponse(List.of(john, jane)));
+        when(restTemplate.exchange(
+                        eq("testEndpoint"),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(Map.of("data", true, "status", "Successfully processed request.")));
+
+        assertEquals(121000, employeeService.getRosterStats(10).all().salary().sum());
+        employeeService.deleteEmployeeByName("Jane Doe");
+
+        RosterStats stats = employeeService.getRosterStats(10);
+        assertEquals(1, stats.all().headcount());
+        assertEquals(57000, stats.byTitle().get(0).salary().max());
+        verify(restTemplate, times(1)).execute(eq("testEndpoint"), eq(HttpMethod.GET), any(), any());
+    }
+
+    @Test
+    void getSalaryRankShouldBeEmptyForUnknownOrInvalidId() {
+        stubEmployeeList(new EmployeeListResponse(List.of()));
+
+        assertTrue(employeeService.getSalaryRank(UUID.randomUUID().toString()).isEmpty());
+        assertTrue(employeeService.getSalaryRank("not-a-uuid").isEmpty());
+    }
+
     @Test
     void createEmployee() {
         CreateEmployee createEmployee = new CreateEmployee("John Doe", "57000", 54, "Software Engineer");
@@ -406,6 +815,50 @@ class EmployeeServiceTest {
         assertTrue(employeeService.deleteEmployeeByName("John Doe"));
     }
 
+    @Test
+    void createEmployeeShouldPatchCachedSnapshot() {
+        employeeService = cachingEmployeeService();
+        Employee existing =
+                new Employee(UUID.randomUUID(), "Jane Doe", "64000", 41, "Software Engineer", "jane@bar.com");
+        Employee created = new Employee(UUID.randomUUID(), "John Doe", "57000", 54, "Software Engineer", "foo@bar.com");
+        stubEmployeeList(new EmployeeListResponse(List.of(existing)));
+        when(restTemplate.exchange(
+                        eq("testEndpoint"),
+                        eq(HttpMethod.POST),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new EmployeeResponse(created)));
+
+        employeeService.getAllEmployees();
+        employeeService.createEmployee(new CreateEmployee("John Doe", "57000", 54, "Software Engineer"));
+
+        assertEquals(List.of(existing, created), employeeService.getAllEmployees());
+        verify(restTemplate, times(1))
+                .execute(eq("testEndpoint"), eq(HttpMethod.GET), any(), any());
+    }
+
+    @Test
+    void deleteEmployeeByNameShouldPatchCachedSnapshot() {
+        employeeService = cachingEmployeeService();
+        Employee remaining =
+                new Employee(UUID.randomUUID(), "Jane Doe", "64000", 41, "Software Engineer", "jane@bar.com");
+        Employee deleted = new Employee(UUID.randomUUID(), "John Doe", "57000", 54, "Software Engineer", "foo@bar.com");
+        stubEmployeeList(new EmployeeListResponse(List.of(deleted, remaining)));
+        when(restTemplate.exchange(
+                        eq("testEndpoint"),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(Map.of("data", true, "status", "Successfully processed request.")));
+
+        employeeService.getAllEmployees();
+        assertTrue(employeeService.deleteEmployeeByName("john doe"));
+
+        assertEquals(List.of(remaining), employeeService.getAllEmployees());
+        verify(restTemplate, times(1))
+                .execute(eq("testEndpoint"), eq(HttpMethod.GET), any(), any());
+    }
+
     @Test
     void deleteEmployeeByNameShouldHandleFailure() {
         when(restTemplate.exchange(
@@ -460,6 +913,148 @@ class EmployeeServiceTest {
         assertEquals("Failed to delete employee.", exception.getMessage());
     }
 
+    @Test
+    void deleteEmployeeByNameShouldEvictCachedLookups() {
+        employeeService = cachingEmployeeService();
+        UUID id = UUID.randomUUID();
+        Employee employee = new Employee(id, "John Doe", "57000", 54, "Software Engineer", "foo@bar.com");
+        when(restTemplate.exchange(
+                        eq("testEndpoint/" + id), eq(HttpMethod.GET), eq(null), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new EmployeeResponse(employee)));
+        when(restTemplate.exchange(
+                        eq("testEndpoint"),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(Map.of("data", true, "status", "Successfully processed request.")));
+
+        employeeService.getEmployeeById(id.toString());
+        employeeService.deleteEmployeeByName("John Doe");
+        employeeService.getEmployeeById(id.toString());
+
+        verify(restTemplate, times(2))
+                .exchange(
+                        eq("testEndpoint/" + id), eq(HttpMethod.GET), eq(null), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void createEmployeesShouldSendOnlyValidEmployeesAndPatchCachedSnapshot() {
+        employeeService = cachingEmployeeService();
+        Employee existing =
+                new Employee(UUID.randomUUID(), "Jane Doe", "64000", 41, "Software Engineer", "jane@bar.com");
+        Employee john = new Employee(UUID.randomUUID(), "John Doe", "57000", 54, "Software Engineer", "foo@bar.com");
+        Employee bill = new Employee(UUID.randomUUID(), "Bill Bob", "89750", 24, "Documentation Engineer", "b@bar.com");
+        stubEmployeeList(new EmployeeListResponse(List.of(existing)));
+        List<Object> sent = new ArrayList<>();
+        when(restTemplate.exchange(
+                        eq("testEndpoint/batch"),
+                        eq(HttpMethod.POST),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class)))
+                .thenAnswer(invocation -> {
+                    sent.add(((HttpEntity<?>) invocation.getArgument(2)).getBody());
+                    return ResponseEntity.ok(new BatchResponse<>(List.of(BatchItem.ok(john), BatchItem.ok(bill))));
+                });
+
+        employeeService.getAllEmployees();
+        List<BatchItem<Employee>> results = employeeService.createEmployees(List.of(
+                new CreateEmployee("John Doe", "57000", 54, "Software Engineer"),
+                new CreateEmployee("", "57000", 54, "Software Engineer"),
+                new CreateEmployee("Bill Bob", "89750", 24, "Documentation Engineer")));
+
+        assertEquals(
+                List.of(BatchItem.ok(john), BatchItem.failed("Name cannot be null or blank."), BatchItem.ok(bill)),
+                results);
+        assertEquals(
+                List.of(List.of(
+                        new CreateEmployee("John Doe", "57000", 54, "Software Engineer"),
+                        new CreateEmployee("Bill Bob", "89750", 24, "Documentation Engineer"))),
+                sent);
+        assertEquals(List.of(existing, john, bill), employeeService.getAllEmployees());
+        verify(restTemplate, times(1))
+                .execute(eq("testEndpoint"), eq(HttpMethod.GET), any(), any());
+    }
+
+    @Test
+    void createEmployeesShouldFailOnlyTheChunkThatWasRateLimited() {
+        employeeService = new EmployeeService(
+                "testEndpoint",
+                restTemplate,
+                new EmployeeListReader(JSON),
+                EmployeeSnapshotCache.disabled(),
+                EmployeeIdCache.disabled(),
+                UpstreamCallGuard.unguarded(),
+                Runnable::run,
+                ParallelScan.sequential(),
+                new BatchPipeline(2, 2));
+        Employee john = new Employee(UUID.randomUUID(), "John Doe", "57000", 54, "Software Engineer", "foo@bar.com");
+        Employee jane = new Employee(UUID.randomUUID(), "Jane Doe", "64000", 41, "Software Engineer", "jane@bar.com");
+        when(restTemplate.exchange(
+                        eq("testEndpoint/batch"),
+                        eq(HttpMethod.POST),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new BatchResponse<>(List.of(BatchItem.ok(john), BatchItem.ok(jane)))))
+                .thenThrow(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS));
+
+        List<BatchItem<Employee>> results = employeeService.createEmployees(List.of(
+                new CreateEmployee("John Doe", "57000", 54, "Software Engineer"),
+                new CreateEmployee("Jane Doe", "64000", 41, "Software Engineer"),
+                new CreateEmployee("Bill Bob", "89750", 24, "Documentation Engineer")));
+
+        BatchItem<Employee> rateLimited = BatchItem.failed("Failed to create employees. Rate limit exceeded");
+        assertEquals(List.of(BatchItem.ok(john), BatchItem.ok(jane), rateLimited), results);
+        verify(restTemplate, times(2))
+                .exchange(
+                        eq("testEndpoint/batch"),
+                        eq(HttpMethod.POST),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void createEmployeesShouldFailChunkWhenUpstreamAnswersWrongNumberOfItems() {
+        when(restTemplate.exchange(
+                        eq("testEndpoint/batch"),
+                        eq(HttpMethod.POST),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new BatchResponse<>(List.of())));
+
+        List<BatchItem<Employee>> results = employeeService.createEmployees(
+                List.of(new CreateEmployee("John Doe", "57000", 54, "Software Engineer")));
+
+        assertEquals(List.of(BatchItem.failed("Failed to create employees.")), results);
+    }
+
+    @Test
+    void deleteEmployeesByNameShouldPatchCachedSnapshot() {
+        employeeService = cachingEmployeeService();
+        Employee remaining =
+                new Employee(UUID.randomUUID(), "Jane Doe", "64000", 41, "Software Engineer", "jane@bar.com");
+        Employee deleted = new Employee(UUID.randomUUID(), "John Doe", "57000", 54, "Software Engineer", "foo@bar.com");
+        stubEmployeeList(new EmployeeListResponse(List.of(deleted, remaining)));
+        List<Object> sent = new ArrayList<>();
+        when(restTemplate.exchange(
+                        eq("testEndpoint/batch"),
+                        eq(HttpMethod.DELETE),
+                        any(HttpEntity.class),
+                        any(ParameterizedTypeReference.class)))
+                .thenAnswer(invocation -> {
+                    sent.add(((HttpEntity<?>) invocation.getArgument(2)).getBody());
+                    return ResponseEntity.ok(new BatchResponse<>(List.of(BatchItem.ok(true), BatchItem.ok(false))));
+                });
+
+        employeeService.getAllEmployees();
+        List<BatchItem<Boolean>> results = employeeService.deleteEmployeesByName(List.of("john doe", " ", "Nobody"));
+
+        assertEquals(
+                List.of(BatchItem.ok(true), BatchItem.failed("Name cannot be null or blank."), BatchItem.ok(false)),
+                results);
+        assertEquals(List.of(List.of(Map.of("name", "john doe"), Map.of("name", "Nobody"))), sent);
+        assertEquals(List.of(remaining), employeeService.getAllEmployees());
+    }
+
     @Test
     void validateCreateEmployee() {
         CreateEmployee createEmployee = new CreateEmployee("John Doe", "57000", 54, "Software Engineer");
@@ -0,0 +1,83 @@
+package com.reliaquest.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latencies and outcomes for one endpoint. Workers record into a {@link Recorder}, which the reporter drains once per
+ * interval without blocking them; counts are kept separately so failed requests are still counted.
+ */
+final class EndpointStats {
+    // an hour in microseconds, far past any client timeout
+    private static final long HIGHEST_TRACKABLE = TimeUnit.HOURS.toMicros(1);
+
+    private final Operation operation;
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE, 3);
+    private final Histogram total = new Histogram(HIGHEST_TRACKABLE, 3);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder tooManyRequests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private Histogram interval;
+
+    EndpointStats(Operation operation) {
+        this.operation = operation;
+    }
+
+    Operation operation() {
+        return operation;
+    }
+
+    /**
+     * Counts as errors everything but successes, 429s and the 404s a mixed workload expects, such as lookups of
+     * employees another worker just deleted. The workload only sends well-formed requests, so a 400 is an error too.
+     *
+     * @param status the HTTP status, or 0 if no response arrived
+     */
+    void record(long latencyMicros, int status) {
+        recorder.recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE));
+        requests.increment();
+        if (status == 429) {
+            tooManyRequests.increment();
+        } else if (status == 0 || (status >= 400 && status != 404)) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * @return the latencies recorded since the last call, which are also added to {@link #total()}
+     */
+    synchronized Histogram drainInterval() {
+        interval = recorder.getIntervalHistogram(interval);
+        total.add(interval);
+        return interval;
+    }
+
+    /**
+     * Drops everything recorded so far, e.g. at the end of the warmup.
+     */
+    synchronized void reset() {
+        recorder.reset();
+        total.reset();
+        requests.reset();
+        tooManyRequests.reset();
+        errors.reset();
+    }
+
+    synchronized Histogram total() {
+        return total.copy();
+    }
+
+    long requests() {
+        return requests.sum();
+    }
+
+    long tooManyRequests() {
+        return tooManyRequests.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+}
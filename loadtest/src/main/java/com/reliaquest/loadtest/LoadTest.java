@@ -0,0 +1,209 @@
+package com.reliaquest.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Boots the mock server and the api as separate processes, drives the configured mix of requests at the api and
+ * reports throughput, latency percentiles and the share of 429 responses per endpoint. Latencies are kept in
+ * microseconds and written per endpoint as an HdrHistogram interval log ({@code .hlog}) and a percentile distribution
+ * ({@code .hgrm}). Exits with status 1 when a configured gate is breached, so a run can guard caching and rate-limit
+ * changes against regressions.
+ */
+public final class LoadTest {
+    private static final Logger logger = LoggerFactory.getLogger(LoadTest.class);
+    private static final Duration REPORT_INTERVAL = Duration.ofSeconds(1);
+
+    private final LoadTestConfig config;
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+
+    private LoadTest(LoadTestConfig config) {
+        this.config = config;
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats(operation));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        Files.createDirectories(config.reportDir());
+        List<String> serverArgs = new ArrayList<>();
+        serverArgs.add("--spring.profiles.active=" + config.serverProfile());
+        serverArgs.addAll(config.serverArgs());
+        List<String> apiArgs = new ArrayList<>();
+        apiArgs.add("--endpoints.employees=http://localhost:" + config.serverPort() + "/api/v1/employee");
+        apiArgs.addAll(config.apiArgs());
+
+        List<String> breaches;
+        try (AppProcess server = AppProcess.start(
+                "server", config.serverJar(), config.serverPort(), serverArgs, config.reportDir())) {
+            server.awaitReady(config.startupTimeout());
+            try (AppProcess api =
+                    AppProcess.start("api", config.apiJar(), config.apiPort(), apiArgs, config.reportDir())) {
+                api.awaitReady(config.startupTimeout());
+                breaches = new LoadTest(config).run();
+            }
+        }
+        if (!breaches.isEmpty()) {
+            breaches.forEach(breach -> logger.error("Gate breached: {}", breach));
+            System.exit(1);
+        }
+    }
+
+    private List<String> run() throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+        URI base = URI.create("http://localhost:" + config.apiPort() + "/");
+        Workload workload = Workload.seed(client, base, config.mix(), config.startupTimeout());
+
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(config.workers());
+        for (int i = 0; i < config.workers(); i++) {
+            long seed = i;
+            workers.execute(() -> drive(workload, new Random(seed), start, end));
+        }
+        workers.shutdown();
+
+        logger.info("Warming up for {}", config.warmup());
+        TimeUnit.NANOSECONDS.sleep(measureFrom - System.nanoTime());
+        stats.values().forEach(EndpointStats::reset);
+        logger.info("Measuring for {}", config.duration());
+        Map<Operation, HistogramLogWriter> logs = openLogs(System.currentTimeMillis());
+        try {
+            while (!workers.awaitTermination(REPORT_INTERVAL.toMillis(), TimeUnit.MILLISECONDS)) {
+                drainInto(logs);
+            }
+            drainInto(logs);
+        } finally {
+            logs.values().forEach(HistogramLogWriter::close);
+        }
+        return report((System.nanoTime() - measureFrom) / 1e9);
+    }
+
+    /*
+     * With a rate set, each worker sends on its own schedule and latency counts from when a request was due, so time
+     * spent queued behind a slow response is measured rather than skipped.
+     */
+    private void drive(Workload workload, Random random, long start, long end) {
+        long interval = config.rate() > 0 ? TimeUnit.SECONDS.toNanos(1) * config.workers() / config.rate() : 0;
+        long due = start + (interval > 0 ? random.nextLong(interval) : 0);
+        while (true) {
+            long now = System.nanoTime();
+            if (interval > 0 && due > now) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(due - now);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                now = due;
+            }
+            if (now >= end) {
+                return;
+            }
+            long sentAt = interval > 0 ? due : now;
+            Workload.Call call = workload.next(random);
+            int status;
+            try {
+                status = workload.send(call, random);
+            } catch (IOException e) {
+                status = 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            stats.get(call.operation()).record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sentAt), status);
+            due += interval;
+        }
+    }
+
+    private Map<Operation, HistogramLogWriter> openLogs(long startMillis) throws IOException {
+        Map<Operation, HistogramLogWriter> logs = new EnumMap<>(Operation.class);
+        for (Operation operation : config.mix().keySet()) {
+            File file = config.reportDir().resolve(operation.key() + ".hlog").toFile();
+            HistogramLogWriter log = new HistogramLogWriter(file);
+            log.outputComment("Latency in microseconds for " + operation.endpoint());
+            log.outputLogFormatVersion();
+            log.outputStartTime(startMillis);
+            log.setBaseTime(startMillis);
+            log.outputLegend();
+            logs.put(operation, log);
+        }
+        return logs;
+    }
+
+    private void drainInto(Map<Operation, HistogramLogWriter> logs) {
+        logs.forEach((operation, log) -> log.outputIntervalHistogram(stats.get(operation).drainInterval()));
+    }
+
+    private List<String> report(double seconds) throws IOException {
+        List<String> breaches = new ArrayList<>();
+        Path summary = config.reportDir().resolve("summary.txt");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(summary))) {
+            String header = String.format(
+                    "%-42s %9s %9s %9s %9s %9s %7s %7s",
+                    "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "429 %", "errors");
+            out.println(header);
+            System.out.println(header);
+            for (Operation operation : config.mix().keySet()) {
+                EndpointStats endpoint = stats.get(operation);
+                if (endpoint.requests() == 0) {
+                    continue;
+                }
+                Histogram latency = endpoint.total();
+                double tooManyRate = (double) endpoint.tooManyRequests() / endpoint.requests();
+                double errorRate = (double) endpoint.errors() / endpoint.requests();
+                String line = String.format(
+                        "%-42s %9d %9.1f %9.2f %9.2f %9.2f %7.2f %7d",
+                        operation.endpoint(),
+                        endpoint.requests(),
+                        endpoint.requests() / seconds,
+                        latency.getValueAtPercentile(50) / 1000.0,
+                        latency.getValueAtPercentile(99) / 1000.0,
+                        latency.getValueAtPercentile(99.9) / 1000.0,
+                        tooManyRate * 100,
+                        endpoint.errors());
+                out.println(line);
+                System.out.println(line);
+                try (PrintStream distribution = new PrintStream(Files.newOutputStream(
+                        config.reportDir().resolve(operation.key() + ".hgrm")))) {
+                    latency.outputPercentileDistribution(distribution, 1000.0);
+                }
+                long p99 = latency.getValueAtPercentile(99);
+                if (config.maxP99() != null && p99 > config.maxP99().toNanos() / 1000) {
+                    breaches.add(operation.endpoint() + " p99 " + p99 / 1000.0 + "ms > " + config.maxP99());
+                }
+                if (config.max429Rate() >= 0 && tooManyRate > config.max429Rate()) {
+                    breaches.add(operation.endpoint() + " 429 rate " + tooManyRate + " > " + config.max429Rate());
+                }
+                if (config.maxErrorRate() >= 0 && errorRate > config.maxErrorRate()) {
+                    breaches.add(operation.endpoint() + " error rate " + errorRate + " > " + config.maxErrorRate());
+                }
+            }
+        }
+        logger.info("Reports written to {}", config.reportDir().toAbsolutePath());
+        return breaches;
+    }
+}
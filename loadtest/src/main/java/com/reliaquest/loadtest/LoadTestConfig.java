@@ -0,0 +1,109 @@
+package com.reliaquest.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties.
+ *
+ * @param serverArgs extra arguments for the mock server, e.g. {@code --mock.rate-limit.enabled=false}
+ * @param apiArgs extra arguments for the api, e.g. {@code --employees.cache.ttl=0s} to measure it uncached
+ * @param rate total requests per second across workers, or 0 for each worker to send as fast as responses return.
+ *     With a rate set, latency is measured from when a request was due, so a stalled api is not hidden by workers
+ *     that stop sending while they wait
+ * @param mix relative weight of each operation
+ * @param maxP99 fail the run if any endpoint's p99 latency is above this; null for no gate
+ * @param max429Rate fail the run if any endpoint answers more than this share of requests with 429; negative for no
+ *     gate
+ * @param maxErrorRate fail the run if any endpoint counts more than this share of requests as errors, see
+ *     {@link EndpointStats#record}; negative for no gate
+ */
+record LoadTestConfig(
+        Path serverJar,
+        Path apiJar,
+        Path reportDir,
+        int serverPort,
+        int apiPort,
+        String serverProfile,
+        List<String> serverArgs,
+        List<String> apiArgs,
+        Duration startupTimeout,
+        Duration warmup,
+        Duration duration,
+        int workers,
+        int rate,
+        Map<Operation, Integer> mix,
+        Duration maxP99,
+        double max429Rate,
+        double maxErrorRate) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Path.of(required("loadtest.server-jar")),
+                Path.of(required("loadtest.api-jar")),
+                Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest")),
+                Integer.getInteger("loadtest.server-port", 18112),
+                Integer.getInteger("loadtest.api-port", 18111),
+                System.getProperty("loadtest.server-profile", "loadtest"),
+                arguments(System.getProperty("loadtest.server-args", "")),
+                arguments(System.getProperty("loadtest.api-args", "")),
+                duration("loadtest.startup-timeout", "60s"),
+                duration("loadtest.warmup", "10s"),
+                duration("loadtest.duration", "30s"),
+                Integer.getInteger("loadtest.workers", 16),
+                Integer.getInteger("loadtest.rate", 0),
+                mix(System.getProperty(
+                        "loadtest.mix",
+                        "list:25,by-id:25,search:20,highest-salary:10,top-ten:10,create:5,delete:5")),
+                System.getProperty("loadtest.gate.max-p99") != null ? duration("loadtest.gate.max-p99", null) : null,
+                Double.parseDouble(System.getProperty("loadtest.gate.max-429-rate", "-1")),
+                Double.parseDouble(System.getProperty("loadtest.gate.max-error-rate", "-1")));
+    }
+
+    private static String required(String key) {
+        String value = System.getProperty(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing system property " + key);
+        }
+        return value;
+    }
+
+    /*
+     * Accepts 30s, 2m or 500ms as well as ISO-8601 durations.
+     */
+    private static Duration duration(String key, String defaultValue) {
+        String value = System.getProperty(key, defaultValue).trim().toLowerCase();
+        if (value.startsWith("p")) {
+            return Duration.parse(value);
+        }
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Unrecognised duration for " + key + ": " + value);
+        };
+    }
+
+    private static List<String> arguments(String value) {
+        return Arrays.stream(value.trim().split("\\s+"))
+                .filter(argument -> !argument.isEmpty())
+                .toList();
+    }
+
+    private static Map<Operation, Integer> mix(String value) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            weights.put(Operation.named(parts[0]), Integer.parseInt(parts[1]));
+        }
+        return weights;
+    }
+}
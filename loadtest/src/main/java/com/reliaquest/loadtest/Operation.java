@@ -0,0 +1,39 @@
+package com.reliaquest.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * The api calls a workload is made of, each reported as its own endpoint.
+ */
+enum Operation {
+    LIST("list", "GET /"),
+    BY_ID("by-id", "GET /{id}"),
+    SEARCH("search", "GET /search/{searchString}"),
+    HIGHEST_SALARY("highest-salary", "GET /highestSalary"),
+    TOP_TEN("top-ten", "GET /topTenHighestEarningEmployeeNames"),
+    CREATE("create", "POST /"),
+    DELETE("delete", "DELETE /{id}");
+
+    private final String key;
+    private final String endpoint;
+
+    Operation(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    String key() {
+        return key;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    static Operation named(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation " + key));
+    }
+}
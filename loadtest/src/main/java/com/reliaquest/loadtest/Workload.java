@@ -0,0 +1,175 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Picks and sends api requests in the configured mix. Lookups and searches use ids and names from the roster read at
+ * the start; deletes only remove employees this run created, so the seeded roster stays intact.
+ */
+final class Workload {
+    private static final Logger logger = LoggerFactory.getLogger(Workload.class);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient client;
+    private final URI base;
+    private final ObjectMapper objectMapper;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final List<String> ids;
+    private final List<String> names;
+    private final Queue<String> created = new ConcurrentLinkedQueue<>();
+
+    private Workload(
+            HttpClient client,
+            URI base,
+            ObjectMapper objectMapper,
+            Map<Operation, Integer> mix,
+            List<String> ids,
+            List<String> names) {
+        this.client = client;
+        this.base = base;
+        this.objectMapper = objectMapper;
+        this.operations = mix.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += mix.get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+        this.ids = ids;
+        this.names = names;
+    }
+
+    /**
+     * Reads the roster through the api, retrying while the api or the server behind it is still warming up or rate
+     * limiting.
+     */
+    static Workload seed(HttpClient client, URI base, Map<Operation, Integer> mix, Duration timeout)
+            throws IOException, InterruptedException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Instant deadline = Instant.now().plus(timeout);
+        while (true) {
+            HttpResponse<byte[]> response = client.send(
+                    HttpRequest.newBuilder(base).timeout(REQUEST_TIMEOUT).GET().build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() == 200) {
+                List<String> ids = new ArrayList<>();
+                List<String> names = new ArrayList<>();
+                for (JsonNode employee : objectMapper.readTree(response.body())) {
+                    ids.add(employee.path("id").asText());
+                    names.add(employee.path("employee_name").asText());
+                }
+                if (ids.isEmpty()) {
+                    throw new IllegalStateException("The api returned an empty roster; nothing to look up");
+                }
+                logger.info("Seeded workload with {} employees", ids.size());
+                return new Workload(client, base, objectMapper, mix, ids, names);
+            }
+            if (Instant.now().isAfter(deadline)) {
+                throw new IllegalStateException("Could not read the roster, last status " + response.statusCode());
+            }
+            Thread.sleep(1000);
+        }
+    }
+
+    /**
+     * Picks the next request. A delete claims one of the employees this run created, and becomes a create when there
+     * are none left to remove.
+     */
+    Call next(Random random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int i = 0;
+        while (cumulativeWeights[i] <= pick) {
+            i++;
+        }
+        return switch (operations[i]) {
+            case BY_ID -> new Call(Operation.BY_ID, ids.get(random.nextInt(ids.size())));
+            case SEARCH -> new Call(Operation.SEARCH, "search/" + pathSegment(searchTerm(random)));
+            case DELETE -> {
+                String id = created.poll();
+                yield id != null ? new Call(Operation.DELETE, id) : new Call(Operation.CREATE, "");
+            }
+            case LIST, CREATE -> new Call(operations[i], "");
+            case HIGHEST_SALARY -> new Call(Operation.HIGHEST_SALARY, "highestSalary");
+            case TOP_TEN -> new Call(Operation.TOP_TEN, "topTenHighestEarningEmployeeNames");
+        };
+    }
+
+    /**
+     * @return the response status
+     * @throws IOException if no response arrived
+     */
+    int send(Call call, Random random) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(call.path().isEmpty() ? base : base.resolve(call.path()))
+                .timeout(REQUEST_TIMEOUT);
+        if (call.operation() == Operation.CREATE) {
+            return create(request, random);
+        }
+        request = call.operation() == Operation.DELETE ? request.DELETE() : request.GET();
+        return client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int create(HttpRequest.Builder request, Random random) throws IOException, InterruptedException {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("name", "Load Test " + UUID.randomUUID().toString().substring(0, 8));
+        body.put("salary", Integer.toString(30_000 + random.nextInt(200_000)));
+        body.put("age", 18 + random.nextInt(50));
+        body.put("title", "Load Tester");
+        HttpResponse<Void> response = client.send(
+                request.header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 201) {
+            // the api answers with an empty body and the new employee's address in Location
+            String id = response.headers().firstValue("Location").map(Workload::lastPathSegment).orElse("");
+            if (!id.isEmpty()) {
+                created.add(id);
+            }
+        }
+        return response.statusCode();
+    }
+
+    private static String lastPathSegment(String location) {
+        String path = URI.create(location).getPath();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    private String searchTerm(Random random) {
+        String name = names.get(random.nextInt(names.size())).toLowerCase();
+        if (name.length() <= 3) {
+            return name;
+        }
+        int start = random.nextInt(name.length() - 3);
+        return name.substring(start, start + 3);
+    }
+
+    private static String pathSegment(String text) {
+        return URLEncoder.encode(text, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    /**
+     * @param path relative to the api's base address
+     */
+    record Call(Operation operation, String path) {}
+}
@@ -1,9 +1,9 @@
 package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeStore;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
-import java.util.List;
+import java.time.Duration;
 import java.util.Locale;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -25,16 +25,37 @@ public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    @Value("${mock.rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
+
+    @Value("${mock.rate-limit.min-requests:5}")
+    private int rateLimitMinRequests;
+
+    @Value("${mock.rate-limit.max-requests:10}")
+    private int rateLimitMaxRequests;
+
+    @Value("${mock.rate-limit.min-backoff:30s}")
+    private Duration rateLimitMinBackoff;
+
+    @Value("${mock.rate-limit.max-backoff:90s}")
+    private Duration rateLimitMaxBackoff;
+
+    @Value("${mock.rate-limit.refund-not-modified:false}")
+    private boolean rateLimitRefundNotModified;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * This store is modifiable by design for CRUD operations.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
+    public MockEmployeeStore mockEmployeeStore(
+            Faker faker,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.changes.capacity:1000}") int changeLogCapacity) {
         final var transformer = new JavaObjectTransformer();
         final var schema = Schema.of(
                 Field.field("id", UUID::randomUUID),
@@ -49,11 +70,22 @@ public class ServerConfiguration implements WebMvcConfigurer {
         return IntStream.rangeClosed(1, maxEmployees)
                 .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
                 .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+                .collect(Collectors.collectingAndThen(
+                        Collectors.toList(), employees -> new MockEmployeeStore(employees, changeLogCapacity)));
     }
 
+    /*
+     * Load tests switch the limiter off or narrow its ranges through the mock.rate-limit properties.
+     */
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        if (rateLimitEnabled) {
+            registry.addInterceptor(new RandomRequestLimitInterceptor(
+                    rateLimitMinRequests,
+                    rateLimitMaxRequests,
+                    rateLimitMinBackoff,
+                    rateLimitMaxBackoff,
+                    rateLimitRefundNotModified));
+        }
     }
 }
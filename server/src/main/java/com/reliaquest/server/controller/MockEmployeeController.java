@@ -1,22 +1,30 @@
 package com.reliaquest.server.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -24,11 +32,51 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    public static final String EPOCH_HEADER = "X-Roster-Epoch";
+    public static final String VERSION_HEADER = "X-Roster-Version";
+
     private final MockEmployeeService mockEmployeeService;
 
+    private final ObjectMapper objectMapper;
+
+    @Value("${mock.batch.max-size:100}")
+    private int maxBatchSize;
+
+    /*
+     * Writes the body cached on the current snapshot. A pre-gzipped body already carries Content-Encoding, so the
+     * server's own compression leaves it alone. The ETag names the snapshot version, and Spring answers a matching
+     * If-None-Match with 304 and no body. The epoch and version headers are where a client starts following changes.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<byte[]> getEmployees(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        final var snapshot = mockEmployeeService.getSnapshot();
+        final var body = snapshot.body(objectMapper);
+        final var gzipped = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        final var response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(snapshot.eTag(gzipped))
+                .header(EPOCH_HEADER, snapshot.getEpoch())
+                .header(VERSION_HEADER, Long.toString(snapshot.getVersion()))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzipped) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzipped());
+        }
+        return response.body(body.json());
+    }
+
+    /*
+     * 410 means the changes cannot be replayed, because the version is from another server run or older than the
+     * change log, and the client has to read the full list again.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<Response<MockEmployeeChanges>> getChanges(
+            @RequestParam("epoch") String epoch, @RequestParam("since") long version) {
+        return mockEmployeeService
+                .changesSince(epoch, version)
+                .map(changes -> ResponseEntity.ok(Response.handledWith(changes)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.GONE)
+                        .body(Response.error("Changes since version %d are not available.".formatted(version))));
     }
 
     @GetMapping("/{id}")
@@ -48,4 +96,30 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    /*
+     * A batch counts as one request against the rate limit. Every input gets its own result, in input order, so an
+     * invalid input fails on its own instead of failing the batch.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Response<List<Response<MockEmployee>>>> createEmployees(
+            @RequestBody List<CreateMockEmployeeInput> inputs) {
+        if (inputs.size() > maxBatchSize) {
+            return ResponseEntity.badRequest().body(batchTooLarge(inputs.size()));
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.createAll(inputs)));
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<Response<List<Response<Boolean>>>> deleteEmployees(
+            @RequestBody List<DeleteMockEmployeeInput> inputs) {
+        if (inputs.size() > maxBatchSize) {
+            return ResponseEntity.badRequest().body(batchTooLarge(inputs.size()));
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.deleteAll(inputs)));
+    }
+
+    private <T> Response<T> batchTooLarge(int size) {
+        return Response.error("Batch of %d exceeds the maximum of %d.".formatted(size, maxBatchSize));
+    }
 }
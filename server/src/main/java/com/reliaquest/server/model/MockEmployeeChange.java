@@ -0,0 +1,12 @@
+package com.reliaquest.server.model;
+
+/*
+ * One write to the roster. Versions count up by one per write, so a run of changes has no gaps.
+ */
+public record MockEmployeeChange(long version, Type type, MockEmployee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
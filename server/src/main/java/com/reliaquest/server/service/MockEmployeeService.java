@@ -4,11 +4,14 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.Response;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,37 +25,105 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStore mockEmployeeStore;
+
+    private final Validator validator;
+
+    public MockEmployeeSnapshot getSnapshot() {
+        return mockEmployeeStore.snapshot();
+    }
+
+    public Optional<MockEmployeeChanges> changesSince(@NonNull String epoch, long version) {
+        return mockEmployeeStore.changesSince(epoch, version);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeStore.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+        final var mockEmployee = newMockEmployee(input);
+        mockEmployeeStore.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /*
+     * Inputs are validated one by one, so an invalid input gets an error result while the rest are still added, all as
+     * a single write to the store. Results are in input order.
+     */
+    public List<Response<MockEmployee>> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var results = new ArrayList<Response<MockEmployee>>(inputs.size());
+        final var created = new ArrayList<MockEmployee>(inputs.size());
+        for (final var input : inputs) {
+            final var error = validationError(input);
+            if (error.isPresent()) {
+                results.add(Response.error(error.get()));
+                continue;
+            }
+            final var mockEmployee = newMockEmployee(input);
+            created.add(mockEmployee);
+            results.add(Response.handledWith(mockEmployee));
+        }
+        mockEmployeeStore.addAll(created);
+        log.debug("Added {} of {} employees", created.size(), inputs.size());
+        return results;
+    }
+
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
+        final var mockEmployee = mockEmployeeStore.removeFirstNamed(input.getName());
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
 
         return false;
     }
+
+    /*
+     * Each valid input removes the earliest added employee with its name, in input order, as a single write to the
+     * store. Results are in input order.
+     */
+    public List<Response<Boolean>> deleteAll(@NonNull List<DeleteMockEmployeeInput> inputs) {
+        final var errors = inputs.stream().map(this::validationError).toList();
+        final var names = new ArrayList<String>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            if (errors.get(i).isEmpty()) {
+                names.add(inputs.get(i).getName());
+            }
+        }
+        final var removed = mockEmployeeStore.removeFirstNamed(names).iterator();
+        final var results = new ArrayList<Response<Boolean>>(inputs.size());
+        for (final var error : errors) {
+            if (error.isPresent()) {
+                results.add(Response.error(error.get()));
+                continue;
+            }
+            final var mockEmployee = removed.next();
+            mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+            results.add(Response.handledWith(mockEmployee.isPresent()));
+        }
+        return results;
+    }
+
+    private MockEmployee newMockEmployee(CreateMockEmployeeInput input) {
+        return MockEmployee.from(
+                ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                        faker.twitter().userName().toLowerCase()),
+                input);
+    }
+
+    private Optional<String> validationError(Object input) {
+        if (input == null) {
+            return Optional.of("Input must not be null.");
+        }
+        final var violations = validator.validate(input);
+        if (violations.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", ")));
+    }
 }
@@ -0,0 +1,64 @@
+package com.reliaquest.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.Response;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * The roster as it stood at one version. The GET all employees body is rendered at most once per version, together
+ * with a gzipped copy, so repeated reads write cached bytes instead of serializing the list again.
+ */
+@RequiredArgsConstructor
+public class MockEmployeeSnapshot {
+
+    // Distinguishes this store's versions from those of earlier server runs, which also count up from one.
+    @Getter
+    private final String epoch;
+
+    @Getter
+    private final long version;
+
+    @Getter
+    private final List<MockEmployee> employees;
+
+    // Racing renders produce identical bytes, so either may win.
+    private volatile Body body;
+
+    /*
+     * Strong validators differ per content coding, since the gzipped and plain bodies are different bytes.
+     */
+    public String eTag(boolean gzipped) {
+        return "\"%s-%d%s\"".formatted(epoch, version, gzipped ? "-gzip" : "");
+    }
+
+    public Body body(ObjectMapper objectMapper) {
+        var rendered = body;
+        if (rendered == null) {
+            rendered = render(objectMapper);
+            body = rendered;
+        }
+        return rendered;
+    }
+
+    private Body render(ObjectMapper objectMapper) {
+        try {
+            final var json = objectMapper.writeValueAsBytes(Response.handledWith(employees));
+            final var gzipped = new ByteArrayOutputStream(json.length / 4);
+            try (var gzip = new GZIPOutputStream(gzipped)) {
+                gzip.write(json);
+            }
+            return new Body(json, gzipped.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to render employees at version " + version, e);
+        }
+    }
+
+    public record Body(byte[] json, byte[] gzipped) {}
+}
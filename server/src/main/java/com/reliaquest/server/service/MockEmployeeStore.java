@@ -0,0 +1,161 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.random.RandomGenerator;
+import lombok.NonNull;
+
+/*
+ * Shared by every Tomcat thread. Writes hold the store's monitor so the indexes always agree with each other and
+ * publish a new immutable snapshot of the roster, while reads go to the id index or the published snapshot and never
+ * block. The most recent writes are also kept as a change log, so clients can catch up from the version they hold.
+ */
+public class MockEmployeeStore {
+
+    private final ConcurrentSkipListMap<Long, MockEmployee> byInsertion = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<UUID, MockEmployee> byId = new ConcurrentHashMap<>();
+
+    // Only touched while holding the monitor; each queue lists the insertion keys of one name, oldest first.
+    private final Map<String, ArrayDeque<Long>> byName = new HashMap<>();
+    private long nextInsertion;
+    private long version = 1;
+
+    // Only touched while holding the monitor; oldest first.
+    private final ArrayDeque<MockEmployeeChange> changes = new ArrayDeque<>();
+    private final int changeLogCapacity;
+
+    private final String epoch = Long.toHexString(RandomGenerator.getDefault().nextLong());
+    private volatile MockEmployeeSnapshot snapshot;
+
+    public MockEmployeeStore(@NonNull Collection<MockEmployee> mockEmployees, int changeLogCapacity) {
+        this.changeLogCapacity = changeLogCapacity;
+        mockEmployees.forEach(this::index);
+        snapshot = new MockEmployeeSnapshot(epoch, version, List.copyOf(byInsertion.values()));
+    }
+
+    public MockEmployeeSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * @return the writes after the given version, or empty if that version is not from this store or no longer covered
+     *     by the change log
+     */
+    public synchronized Optional<MockEmployeeChanges> changesSince(@NonNull String epoch, long version) {
+        final var current = snapshot.getVersion();
+        final var oldest = changes.isEmpty() ? current : changes.getFirst().version() - 1;
+        if (!this.epoch.equals(epoch) || version < oldest || version > current) {
+            return Optional.empty();
+        }
+        final var missed = changes.stream().filter(change -> change.version() > version).toList();
+        return Optional.of(new MockEmployeeChanges(epoch, current, missed));
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID uuid) {
+        return Optional.ofNullable(byId.get(uuid));
+    }
+
+    public synchronized void add(@NonNull MockEmployee mockEmployee) {
+        addAll(List.of(mockEmployee));
+    }
+
+    /**
+     * Adds the employees as a single new snapshot; the change log still gets one entry per employee.
+     */
+    public synchronized void addAll(@NonNull List<MockEmployee> mockEmployees) {
+        if (mockEmployees.isEmpty()) {
+            return;
+        }
+        mockEmployees.forEach(mockEmployee -> {
+            index(mockEmployee);
+            record(MockEmployeeChange.Type.CREATED, mockEmployee);
+        });
+        publish();
+    }
+
+    /**
+     * Removes the earliest added employee whose name matches ignoring case.
+     */
+    public synchronized Optional<MockEmployee> removeFirstNamed(@NonNull String name) {
+        return removeFirstNamed(List.of(name)).get(0);
+    }
+
+    /**
+     * Removes the earliest added match for each name in turn, so a name listed twice removes two employees, and
+     * publishes a single new snapshot.
+     *
+     * @return what each name removed, in order
+     */
+    public synchronized List<Optional<MockEmployee>> removeFirstNamed(@NonNull List<String> names) {
+        final var removed = names.stream().map(this::unindexFirstNamed).toList();
+        if (removed.stream().anyMatch(Optional::isPresent)) {
+            publish();
+        }
+        return removed;
+    }
+
+    private Optional<MockEmployee> unindexFirstNamed(String name) {
+        final var key = nameKey(name);
+        final var insertions = byName.get(key);
+        if (insertions == null) {
+            return Optional.empty();
+        }
+        final var mockEmployee = byInsertion.remove(insertions.removeFirst());
+        if (insertions.isEmpty()) {
+            byName.remove(key);
+        }
+        if (mockEmployee.getId() != null) {
+            byId.remove(mockEmployee.getId(), mockEmployee);
+        }
+        record(MockEmployeeChange.Type.DELETED, mockEmployee);
+        return Optional.of(mockEmployee);
+    }
+
+    private void index(MockEmployee mockEmployee) {
+        final var insertion = nextInsertion++;
+        byInsertion.put(insertion, mockEmployee);
+        if (mockEmployee.getId() != null) {
+            byId.put(mockEmployee.getId(), mockEmployee);
+        }
+        if (mockEmployee.getName() != null) {
+            byName.computeIfAbsent(nameKey(mockEmployee.getName()), ignored -> new ArrayDeque<>())
+                    .addLast(insertion);
+        }
+    }
+
+    private void record(MockEmployeeChange.Type type, MockEmployee mockEmployee) {
+        version++;
+        if (changeLogCapacity > 0) {
+            if (changes.size() == changeLogCapacity) {
+                changes.removeFirst();
+            }
+            changes.addLast(new MockEmployeeChange(version, type, mockEmployee));
+        }
+    }
+
+    private void publish() {
+        snapshot = new MockEmployeeSnapshot(epoch, version, List.copyOf(byInsertion.values()));
+    }
+
+    /*
+     * Folds each code point the way String.equalsIgnoreCase compares them, upper case then lower case, so two names
+     * share a key exactly when equalsIgnoreCase matches them. String.toLowerCase differs for characters whose case
+     * mappings are not one-to-one, like the dotted capital I and the dotless small i.
+     */
+    private static String nameKey(String name) {
+        final var key = new StringBuilder(name.length());
+        name.codePoints()
+                .forEach(codePoint -> key.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return key.toString();
+    }
+}
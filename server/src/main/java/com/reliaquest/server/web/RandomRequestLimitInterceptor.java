@@ -12,34 +12,64 @@ import org.springframework.web.servlet.HandlerInterceptor;
 
 public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
-    private static final int REQUEST_LIMIT = RandomGenerator.getDefault().nextInt(5, 10);
-    private static final Duration REQUEST_BACKOFF_DURATION =
-            Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+    private static final String COUNTED = RandomRequestLimitInterceptor.class.getName() + ".counted";
+
+    private final int maxRequests;
+    private final Duration backoff;
+    private final boolean refundNotModified;
 
     private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
 
+    /*
+     * The request limit and backoff are drawn once, from ranges whose upper bounds are exclusive. Refunding 304s is
+     * off unless the mock is configured for it.
+     */
+    public RandomRequestLimitInterceptor(
+            int minLimit, int maxLimit, Duration minBackoff, Duration maxBackoff, boolean refundNotModified) {
+        this.maxRequests = RandomGenerator.getDefault().nextInt(minLimit, maxLimit);
+        this.backoff = Duration.ofMillis(
+                RandomGenerator.getDefault().nextLong(minBackoff.toMillis(), maxBackoff.toMillis()));
+        this.refundNotModified = refundNotModified;
+    }
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
+        if (requestLimit.get().getCount() >= maxRequests) {
             if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
+                    .minus(backoff)
                     .isBefore(requestLimit.get().getLastRequested())) {
                 response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
                 return false;
             }
             if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
+                    .minus(backoff)
                     .isAfter(requestLimit.get().getLastRequested())) {
                 requestLimit.set(RequestLimit.init());
             }
         } else {
             requestLimit.getAndUpdate(
                     currentRequestLimit -> new RequestLimit(currentRequestLimit.count() + 1, Instant.now()));
+            request.setAttribute(COUNTED, true);
         }
 
         return true;
     }
 
+    /*
+     * When refunds are on, a conditional GET answered with 304 transferred nothing, so it does not count against the
+     * limit. This is a mock-only allowance; real upstreams generally count every request, 304 or not.
+     */
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (refundNotModified
+                && response.getStatus() == HttpStatus.NOT_MODIFIED.value()
+                && request.getAttribute(COUNTED) != null) {
+            requestLimit.getAndUpdate(currentRequestLimit -> new RequestLimit(
+                    Math.max(0, currentRequestLimit.count() - 1), currentRequestLimit.lastRequested()));
+        }
+    }
+
     private record RequestLimit(@Getter int count, @Getter Instant lastRequested) {
         public static RequestLimit init() {
             return new RequestLimit(0, Instant.now());
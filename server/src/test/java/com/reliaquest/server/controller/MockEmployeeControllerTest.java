@@ -0,0 +1,143 @@
+package com.reliaquest.server.controller;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.MockEmployeeStore;
+import jakarta.validation.Validation;
+import java.util.List;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class MockEmployeeControllerTest {
+
+    MockEmployeeStore store;
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        store = new MockEmployeeStore(List.of(employee("Tiger Nixon")), 2);
+        final var validator = Validation.buildDefaultValidatorFactory().getValidator();
+        final var controller =
+                new MockEmployeeController(new MockEmployeeService(new Faker(), store, validator), new ObjectMapper());
+        ReflectionTestUtils.setField(controller, "maxBatchSize", 3);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void getEmployeesSendsWhereToFollowChangesFrom() throws Exception {
+        final var snapshot = store.snapshot();
+
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(MockEmployeeController.EPOCH_HEADER, snapshot.getEpoch()))
+                .andExpect(header().string(
+                        MockEmployeeController.VERSION_HEADER, Long.toString(snapshot.getVersion())));
+    }
+
+    @Test
+    void getChangesReplaysWritesSinceVersion() throws Exception {
+        final var epoch = store.snapshot().getEpoch();
+        final var since = store.snapshot().getVersion();
+        store.add(employee("Bill Bob"));
+
+        mockMvc.perform(get("/api/v1/employee/changes").param("epoch", epoch).param("since", Long.toString(since)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.epoch").value(epoch))
+                .andExpect(jsonPath("$.data.version").value((int) since + 1))
+                .andExpect(jsonPath("$.data.changes.length()").value(1))
+                .andExpect(jsonPath("$.data.changes[0].type").value("CREATED"))
+                .andExpect(jsonPath("$.data.changes[0].employee.employee_name").value("Bill Bob"));
+    }
+
+    @Test
+    void getChangesIsGoneForAnotherServerRun() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/changes")
+                        .param("epoch", "another-run")
+                        .param("since", Long.toString(store.snapshot().getVersion())))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.error").exists());
+    }
+
+    @Test
+    void getChangesIsGoneOnceChangeLogNoLongerReachesVersion() throws Exception {
+        final var epoch = store.snapshot().getEpoch();
+        final var since = store.snapshot().getVersion();
+        store.add(employee("Bill Bob"));
+        store.add(employee("Jill Jenkins"));
+        store.add(employee("John Doe"));
+
+        mockMvc.perform(get("/api/v1/employee/changes").param("epoch", epoch).param("since", Long.toString(since)))
+                .andExpect(status().isGone());
+        mockMvc.perform(get("/api/v1/employee/changes").param("epoch", epoch).param("since", Long.toString(since + 1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.changes.length()").value(2));
+    }
+
+    @Test
+    void createEmployeesAddsValidInputsAndReportsEachInOrder() throws Exception {
+        final var version = store.snapshot().getVersion();
+
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(
+                                """
+                                [
+                                  {"name": "Jill Jenkins", "salary": 139082, "age": 48, "title": "Financial Advisor"},
+                                  {"name": "Bill Bob", "salary": 0, "age": 24, "title": "Documentation Engineer"},
+                                  null
+                                ]
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0].data.employee_name").value("Jill Jenkins"))
+                .andExpect(jsonPath("$.data[1].error").value(startsWith("salary ")))
+                .andExpect(jsonPath("$.data[2].error").exists());
+
+        assertEquals(2, store.snapshot().getEmployees().size());
+        assertEquals(version + 1, store.snapshot().getVersion());
+    }
+
+    @Test
+    void deleteEmployeesRemovesOneEmployeePerName() throws Exception {
+        store.add(employee("Bill Bob"));
+
+        mockMvc.perform(delete("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"name\": \"bill bob\"}, {\"name\": \"Nobody\"}, {\"name\": \"\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].data").value(true))
+                .andExpect(jsonPath("$.data[1].data").value(false))
+                .andExpect(jsonPath("$.data[2].error").exists());
+
+        assertEquals(1, store.snapshot().getEmployees().size());
+    }
+
+    @Test
+    void batchesOverMaxSizeAreRejected() throws Exception {
+        mockMvc.perform(delete("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"name\": \"A\"}, {\"name\": \"B\"}, {\"name\": \"C\"}, {\"name\": \"D\"}]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Batch of 4 exceeds the maximum of 3."));
+    }
+
+    static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 57000, 30, "Documentation Engineer", "foo@company.com");
+    }
+}
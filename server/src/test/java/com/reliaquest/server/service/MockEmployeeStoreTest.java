@@ -0,0 +1,171 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeStoreTest {
+
+    @Test
+    void snapshotListsEmployeesInInsertionOrderAcrossWrites() {
+        final var tiger = employee("Tiger Nixon");
+        final var jill = employee("Jill Jenkins");
+        final var bill = employee("Bill Bob");
+        final var store = new MockEmployeeStore(List.of(tiger, jill), 10);
+
+        store.add(bill);
+        store.removeFirstNamed("Jill Jenkins");
+        final var jillAgain = employee("Jill Jenkins");
+        store.add(jillAgain);
+
+        assertEquals(List.of(tiger, bill, jillAgain), store.snapshot().getEmployees());
+        assertEquals(Optional.of(bill), store.findById(bill.getId()));
+        assertEquals(Optional.empty(), store.findById(jill.getId()));
+    }
+
+    @Test
+    void removeFirstNamedRemovesEarliestAddedMatchIgnoringCase() {
+        final var first = employee("Bill Bob");
+        final var second = employee("bill bob");
+        final var store = new MockEmployeeStore(List.of(first, employee("Tiger Nixon"), second), 10);
+
+        assertEquals(Optional.of(first), store.removeFirstNamed("BILL BOB"));
+        assertEquals(Optional.of(second), store.removeFirstNamed("Bill Bob"));
+        assertEquals(Optional.empty(), store.removeFirstNamed("Bill Bob"));
+        assertEquals(Optional.empty(), store.removeFirstNamed("Nobody"));
+
+        final var rehired = employee("Bill Bob");
+        store.add(rehired);
+        assertEquals(Optional.of(rehired), store.removeFirstNamed("bill bob"));
+    }
+
+    @Test
+    void removeFirstNamedMatchesNonAsciiNamesLikeEqualsIgnoreCase() {
+        // dotless and dotted i only match 'I' and 'i' through equalsIgnoreCase's upper-then-lower comparison
+        final var dilan = employee("D\u0131lan Y\u0131ld\u0131z");
+        final var inci = employee("\u0130nci Stra\u00dfe");
+        final var store = new MockEmployeeStore(List.of(dilan, inci), 10);
+
+        assertTrue(dilan.getName().equalsIgnoreCase("DILAN YILDIZ"));
+        assertEquals(Optional.of(dilan), store.removeFirstNamed("DILAN YILDIZ"));
+        // equalsIgnoreCase compares char by char, so it does not expand '\u00df' to "ss"
+        assertFalse(inci.getName().equalsIgnoreCase("inci strasse"));
+        assertEquals(Optional.empty(), store.removeFirstNamed("inci strasse"));
+        assertTrue(inci.getName().equalsIgnoreCase("inci STRA\u00dfE"));
+        assertEquals(Optional.of(inci), store.removeFirstNamed("inci STRA\u00dfE"));
+    }
+
+    @Test
+    void writesPublishNewVersionsWhileMissesDoNot() {
+        final var store = new MockEmployeeStore(List.of(employee("Tiger Nixon")), 10);
+        final var initial = store.snapshot();
+
+        store.removeFirstNamed("Nobody");
+        assertSame(initial, store.snapshot());
+
+        store.add(employee("Bill Bob"));
+        assertEquals(initial.getVersion() + 1, store.snapshot().getVersion());
+        assertEquals(initial.getEpoch(), store.snapshot().getEpoch());
+        assertEquals(1, initial.getEmployees().size());
+    }
+
+    @Test
+    void changesSinceReplaysWritesInVersionOrder() {
+        final var bill = employee("Bill Bob");
+        final var jill = employee("Jill Jenkins");
+        final var store = new MockEmployeeStore(List.of(employee("Tiger Nixon")), 10);
+        final var epoch = store.snapshot().getEpoch();
+        final var start = store.snapshot().getVersion();
+
+        store.add(bill);
+        store.add(jill);
+        store.removeFirstNamed("Bill Bob");
+
+        final var changes = store.changesSince(epoch, start).orElseThrow();
+        assertEquals(epoch, changes.epoch());
+        assertEquals(start + 3, changes.version());
+        assertEquals(
+                List.of(
+                        new MockEmployeeChange(start + 1, MockEmployeeChange.Type.CREATED, bill),
+                        new MockEmployeeChange(start + 2, MockEmployeeChange.Type.CREATED, jill),
+                        new MockEmployeeChange(start + 3, MockEmployeeChange.Type.DELETED, bill)),
+                changes.changes());
+        assertEquals(List.of(), store.changesSince(epoch, start + 3).orElseThrow().changes());
+        assertEquals(1, store.changesSince(epoch, start + 2).orElseThrow().changes().size());
+    }
+
+    @Test
+    void changesSinceIsEmptyForForeignEpochEvictedOrFutureVersion() {
+        final var store = new MockEmployeeStore(List.of(), 2);
+        final var epoch = store.snapshot().getEpoch();
+        final var start = store.snapshot().getVersion();
+        store.add(employee("Tiger Nixon"));
+        store.add(employee("Jill Jenkins"));
+        store.add(employee("Bill Bob"));
+
+        assertTrue(store.changesSince("another-run", start + 2).isEmpty());
+        // the log keeps the last two writes, so replaying from the start would miss one
+        assertTrue(store.changesSince(epoch, start).isEmpty());
+        assertEquals(2, store.changesSince(epoch, start + 1).orElseThrow().changes().size());
+        assertTrue(store.changesSince(epoch, start + 4).isEmpty());
+    }
+
+    @Test
+    void changesSinceOnlyServesCurrentVersionWithoutChangeLog() {
+        final var store = new MockEmployeeStore(List.of(), 0);
+        final var epoch = store.snapshot().getEpoch();
+        final var start = store.snapshot().getVersion();
+        store.add(employee("Tiger Nixon"));
+
+        assertTrue(store.changesSince(epoch, start).isEmpty());
+        assertEquals(List.of(), store.changesSince(epoch, start + 1).orElseThrow().changes());
+    }
+
+    @Test
+    void batchWritesPublishOneSnapshotButLogEveryEmployee() {
+        final var tiger = employee("Tiger Nixon");
+        final var bill = employee("Bill Bob");
+        final var jill = employee("Jill Jenkins");
+        final var store = new MockEmployeeStore(List.of(tiger), 10);
+        final var epoch = store.snapshot().getEpoch();
+        final var start = store.snapshot().getVersion();
+
+        store.addAll(List.of(bill, jill));
+        final var added = store.snapshot();
+        assertEquals(List.of(tiger, bill, jill), added.getEmployees());
+        assertEquals(start + 2, added.getVersion());
+
+        final var removed = store.removeFirstNamed(List.of("bill bob", "Nobody", "Tiger Nixon"));
+        assertEquals(List.of(Optional.of(bill), Optional.empty(), Optional.of(tiger)), removed);
+        assertEquals(List.of(jill), store.snapshot().getEmployees());
+        assertEquals(start + 4, store.snapshot().getVersion());
+
+        // no snapshot was published for the intermediate versions
+        assertEquals(List.of(tiger, bill, jill), added.getEmployees());
+        assertEquals(
+                List.of(start + 1, start + 2, start + 3, start + 4),
+                store.changesSince(epoch, start).orElseThrow().changes().stream()
+                        .map(MockEmployeeChange::version)
+                        .toList());
+    }
+
+    @Test
+    void emptyOrMissingBatchPublishesNothing() {
+        final var store = new MockEmployeeStore(List.of(employee("Tiger Nixon")), 10);
+        final var initial = store.snapshot();
+
+        store.addAll(List.of());
+        assertSame(initial, store.snapshot());
+        assertEquals(List.of(Optional.empty(), Optional.empty()), store.removeFirstNamed(List.of("A", "B")));
+        assertSame(initial, store.snapshot());
+    }
+
+    static MockEmployee employee(String name) {
+        return new MockEmployee(UUID.randomUUID(), name, 57000, 30, "Documentation Engineer", "foo@company.com");
+    }
+}
@@ -0,0 +1,59 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RandomRequestLimitInterceptorTest {
+
+    @Test
+    void notModifiedCountsAgainstTheLimitByDefault() {
+        final var interceptor = singleRequestLimit(false);
+
+        notModified(interceptor);
+
+        final var response = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest(), response, null));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+    }
+
+    @Test
+    void notModifiedIsRefundedWhenConfigured() {
+        final var interceptor = singleRequestLimit(true);
+
+        notModified(interceptor);
+
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    void okIsNeverRefunded() {
+        final var interceptor = singleRequestLimit(true);
+        final var request = new MockHttpServletRequest();
+        final var response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, null));
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null));
+    }
+
+    /*
+     * The limit range's upper bound is exclusive, so this allows exactly one request per minute-long backoff.
+     */
+    private static RandomRequestLimitInterceptor singleRequestLimit(boolean refundNotModified) {
+        return new RandomRequestLimitInterceptor(1, 2, Duration.ofMinutes(1), Duration.ofMinutes(2), refundNotModified);
+    }
+
+    private static void notModified(RandomRequestLimitInterceptor interceptor) {
+        final var request = new MockHttpServletRequest();
+        final var response = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(request, response, null));
+        response.setStatus(HttpStatus.NOT_MODIFIED.value());
+        interceptor.afterCompletion(request, response, null, null);
+    }
+}